@@ -7,6 +7,7 @@ val jjwtVersion = "0.11.5"
 val springdocOpenApiVersion = "2.8.5"
 val jsonUnitVersion = "3.2.2"
 val instancioVersion = "3.3.0"
+val roaringBitmapVersion = "1.3.0"
 
 buildscript {
     repositories {
@@ -22,12 +23,19 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"
     id("org.sonarqube") version "4.4.1.3373"
     id("io.sentry.jvm.gradle") version "5.9.0"
+    id("org.hibernate.orm") version "6.6.26.Final"
 }
 
 application {
     mainClass.set("hexlet.code.AppApplication")
 }
 
+hibernate {
+    enhancement {
+        enableLazyInitialization.set(true)
+    }
+}
+
 sonarqube {
     properties {
         property("sonar.gradle.skipCompile", "true")
@@ -83,24 +91,36 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.flywaydb:flyway-core")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.security:spring-security-crypto")
     implementation("io.sentry:sentry-spring-boot-starter-jakarta:$sentryVersion")
     implementation("io.jsonwebtoken:jjwt-api:$jjwtVersion")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:$springdocOpenApiVersion")
+    implementation("org.roaringbitmap:RoaringBitmap:$roaringBitmapVersion")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-csv")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    implementation("org.postgresql:postgresql")
 
     // Runtime Only
     runtimeOnly("io.jsonwebtoken:jjwt-impl:$jjwtVersion")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:$jjwtVersion")
     runtimeOnly("com.h2database:h2")
-    runtimeOnly("org.postgresql:postgresql")
+    runtimeOnly("com.github.ben-manes.caffeine:jcache")
+    runtimeOnly("org.flywaydb:flyway-database-postgresql")
 
     // Test Implementation
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     testImplementation("net.javacrumbs.json-unit:json-unit-assertj:$jsonUnitVersion")
     testImplementation("org.instancio:instancio-junit:$instancioVersion")
+    testImplementation("org.springframework.boot:spring-boot-testcontainers")
+    testImplementation("org.testcontainers:junit-jupiter")
+    testImplementation("org.testcontainers:postgresql")
 
     // Test Runtime Only
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
@@ -140,7 +160,17 @@ tasks.build {
 }
 
 tasks.withType<Test> {
-    useJUnitPlatform()
+    val isBenchmark = name == "benchmark"
+    val isPostgres = name == "postgresTest"
+    useJUnitPlatform {
+        if (isBenchmark) {
+            includeTags("benchmark")
+        } else if (isPostgres) {
+            includeTags("postgres")
+        } else {
+            excludeTags("benchmark", "postgres")
+        }
+    }
     testLogging {
         events = setOf(TestLogEvent.PASSED, TestLogEvent.FAILED, TestLogEvent.SKIPPED)
         showExceptions = true
@@ -148,7 +178,26 @@ tasks.withType<Test> {
         showCauses = true
         showStackTraces = true
     }
-    finalizedBy(tasks.jacocoTestReport)
+    if (!isBenchmark && !isPostgres) {
+        finalizedBy(tasks.jacocoTestReport)
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs performance benchmarks tagged with 'benchmark'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+tasks.register<Test>("postgresTest") {
+    description = "Runs integration tests tagged with 'postgres' against a PostgreSQL container."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
 }
 
 if (isCi) {
@@ -0,0 +1,147 @@
+package hexlet.code.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.config.ReferenceCacheProperties;
+import hexlet.code.event.LabelChangedEvent;
+import hexlet.code.event.TaskStatusChangedEvent;
+import hexlet.code.event.UserChangedEvent;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserEmailView;
+import hexlet.code.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class ReferenceCache {
+
+    private final TaskStatusRepository taskStatusRepository;
+    private final LabelRepository labelRepository;
+    private final UserRepository userRepository;
+
+    private final Cache<String, Long> taskStatusIdsBySlug;
+    private final Cache<Long, Long> labelIds;
+    private final Cache<String, Long> labelIdsByName;
+    private final Cache<Long, String> userEmailsById;
+    private final Cache<String, Long> userIdsByEmail;
+
+    public ReferenceCache(TaskStatusRepository taskStatusRepository, LabelRepository labelRepository,
+                          UserRepository userRepository, ReferenceCacheProperties properties,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this.taskStatusRepository = taskStatusRepository;
+        this.labelRepository = labelRepository;
+        this.userRepository = userRepository;
+        this.taskStatusIdsBySlug = build("taskStatusIdsBySlug", properties, meterRegistry);
+        this.labelIds = build("labelIds", properties, meterRegistry);
+        this.labelIdsByName = build("labelIdsByName", properties, meterRegistry);
+        this.userEmailsById = build("userEmailsById", properties, meterRegistry);
+        this.userIdsByEmail = build("userIdsByEmail", properties, meterRegistry);
+    }
+
+    public Optional<Long> findTaskStatusId(String slug) {
+        return Optional.ofNullable(taskStatusIdsBySlug.get(slug,
+                key -> taskStatusRepository.findBySlug(key).map(TaskStatus::getId).orElse(null)));
+    }
+
+    public Optional<TaskStatus> findTaskStatusBySlug(String slug) {
+        return findTaskStatusId(slug).map(taskStatusRepository::getReferenceById);
+    }
+
+    public Map<String, TaskStatus> findTaskStatusesBySlug(Collection<String> slugs) {
+        return references(taskStatusIdsBySlug.getAll(nonNull(slugs), missing -> taskStatusRepository
+                .findBySlugIn(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(TaskStatus::getSlug, TaskStatus::getId))),
+                taskStatusRepository::getReferenceById);
+    }
+
+    public Optional<TaskStatus> findTaskStatusById(Long id) {
+        return taskStatusRepository.findById(id);
+    }
+
+    public Optional<Label> findLabelById(Long id) {
+        return labelRepository.findById(id);
+    }
+
+    public Map<Long, Label> findLabelsById(Collection<Long> ids) {
+        return references(labelIds.getAll(nonNull(ids), missing -> labelRepository
+                .findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(Label::getId, Label::getId))),
+                labelRepository::getReferenceById);
+    }
+
+    public Optional<Label> findLabelByName(String name) {
+        return Optional.ofNullable(labelIdsByName.get(name,
+                key -> labelRepository.findByName(key).map(Label::getId).orElse(null)))
+                .map(labelRepository::getReferenceById);
+    }
+
+    public Optional<String> findUserEmail(Long id) {
+        return Optional.ofNullable(findUserEmails(List.of(id)).get(id));
+    }
+
+    public Map<Long, String> findUserEmails(Collection<Long> ids) {
+        return userEmailsById.getAll(nonNull(ids), missing -> userRepository
+                .findEmailsByIdIn(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(UserEmailView::getId, UserEmailView::getEmail)));
+    }
+
+    public Optional<Long> findUserId(String email) {
+        return Optional.ofNullable(userIdsByEmail.get(email.toLowerCase(Locale.ROOT),
+                key -> userRepository.findIdByEmail(key).orElse(null)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        taskStatusIdsBySlug.asMap().values().removeIf(event.getId()::equals);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onLabelChanged(LabelChangedEvent event) {
+        labelIds.invalidate(event.getId());
+        labelIdsByName.asMap().values().removeIf(event.getId()::equals);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        userEmailsById.invalidate(event.getId());
+        userIdsByEmail.asMap().values().removeIf(event.getId()::equals);
+    }
+
+    private static <K, V> Map<K, V> references(Map<K, Long> ids, Function<Long, V> reference) {
+        return ids.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> reference.apply(entry.getValue())));
+    }
+
+    private static <K> List<K> nonNull(Collection<K> keys) {
+        return keys.stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static <K, V> Cache<K, V> build(String name, ReferenceCacheProperties properties,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name));
+        return cache;
+    }
+}
@@ -0,0 +1,23 @@
+package hexlet.code.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "events")
+public class EventStreamProperties {
+
+    private int maxSubscribers = 10000;
+
+    private int bufferSize = 256;
+
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    private Duration timeout = Duration.ofMinutes(30);
+}
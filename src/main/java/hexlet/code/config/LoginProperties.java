@@ -0,0 +1,23 @@
+package hexlet.code.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "login")
+public class LoginProperties {
+
+    private int hashingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private int queueCapacity = 64;
+
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
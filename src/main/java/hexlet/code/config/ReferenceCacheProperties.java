@@ -0,0 +1,19 @@
+package hexlet.code.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reference-cache")
+public class ReferenceCacheProperties {
+
+    private long maximumSize = 10000;
+
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
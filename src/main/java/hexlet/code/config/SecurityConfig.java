@@ -2,6 +2,7 @@ package hexlet.code.config;
 
 import hexlet.code.config.jwt.JwtTokenFilter;
 import hexlet.code.config.jwt.JwtUtils;
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,6 +46,7 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(authz -> authz
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/login").permitAll()
                         .requestMatchers("/", "/index.html", "/assets/**", "/sentry-test").permitAll()
                         .anyRequest().authenticated()
@@ -0,0 +1,48 @@
+package hexlet.code.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "tasks")
+public class TaskProperties {
+
+    private int maxPageSize = 500;
+
+    private ReadModel readModel = ReadModel.ENTITY;
+
+    private int maxIdFilterSize = 1000;
+
+    private int maxSearchResults = 1000;
+
+    private int boardColumnSize = 20;
+
+    private Duration changesSettleTime = Duration.ofSeconds(2);
+
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    private Duration tombstonePurgeInterval = Duration.ofHours(1);
+
+    private int maxBulkSize = 10000;
+
+    private int bulkChunkSize = 500;
+
+    private int importChunkSize = 1000;
+
+    private boolean importUseCopy = true;
+
+    private int exportBatchSize = 500;
+
+    private long rebalanceGap = 64;
+
+    public enum ReadModel {
+        ENTITY,
+        PROJECTION
+    }
+}
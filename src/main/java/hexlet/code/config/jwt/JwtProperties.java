@@ -0,0 +1,34 @@
+package hexlet.code.config.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    private SignatureAlgorithm algorithm = SignatureAlgorithm.RS256;
+
+    private String keyId;
+
+    private List<VerificationKey> verificationKeys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class VerificationKey {
+
+        private String id;
+
+        private SignatureAlgorithm algorithm = SignatureAlgorithm.RS256;
+
+        private String publicKey;
+    }
+}
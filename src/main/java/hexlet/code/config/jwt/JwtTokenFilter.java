@@ -9,12 +9,10 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
-import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.List;
 
-@Slf4j
 public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
@@ -28,36 +26,22 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
-
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            try {
-                username = jwtUtils.extractUsername(jwt);
-            } catch (Exception e) {
-                log.warn("Invalid JWT token: {}", e.getMessage());
-            }
-        }
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            try {
-                if (Boolean.TRUE.equals(jwtUtils.validateToken(jwt))) {
-                    var authorities = List.of(new SimpleGrantedAuthority("USER"));
-                    var userDetails = org.springframework.security.core.userdetails.User.builder()
-                            .username(username)
-                            .password("")
-                            .authorities(authorities)
-                            .build();
-
-                    UsernamePasswordAuthenticationToken authenticationToken =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
-                    authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                }
-            } catch (Exception e) {
-                log.warn("Error validating JWT token: {}", e.getMessage());
-            }
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String jwt = authorizationHeader.substring(7);
+            jwtUtils.verify(jwt).ifPresent(token -> {
+                var authorities = List.of(new SimpleGrantedAuthority("USER"));
+                var userDetails = org.springframework.security.core.userdetails.User.builder()
+                        .username(token.username())
+                        .password("")
+                        .authorities(authorities)
+                        .build();
+
+                UsernamePasswordAuthenticationToken authenticationToken =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            });
         }
         chain.doFilter(request, response);
     }
@@ -0,0 +1,6 @@
+package hexlet.code.config.jwt;
+
+import java.time.Instant;
+
+public record VerifiedToken(String username, Instant expiresAt) {
+}
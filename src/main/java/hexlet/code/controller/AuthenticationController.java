@@ -2,6 +2,7 @@ package hexlet.code.controller;
 
 import hexlet.code.dto.LoginRequest;
 import hexlet.code.config.jwt.JwtUtils;
+import hexlet.code.login.LoginAdmission;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,15 +19,16 @@ public class AuthenticationController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final LoginAdmission loginAdmission;
 
     @PostMapping("/login")
     public String createAuthenticationToken(@RequestBody LoginRequest authenticationRequest) {
-        Authentication authentication = authenticationManager.authenticate(
+        Authentication authentication = loginAdmission.submit(() -> authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         authenticationRequest.getUsername(),
                         authenticationRequest.getPassword()
                 )
-        );
+        ));
 
         return jwtUtils.generateToken(authentication.getName());
     }
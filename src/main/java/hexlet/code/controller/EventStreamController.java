@@ -0,0 +1,22 @@
+package hexlet.code.controller;
+
+import hexlet.code.stream.ChangeStream;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@AllArgsConstructor
+public class EventStreamController {
+
+    private final ChangeStream changeStream;
+
+    @GetMapping(value = "", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return changeStream.subscribe();
+    }
+}
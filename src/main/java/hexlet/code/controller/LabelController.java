@@ -1,22 +1,32 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import hexlet.code.dto.LabelCreateDTO;
 import hexlet.code.dto.LabelDTO;
 import hexlet.code.dto.LabelUpdateDTO;
+import hexlet.code.etag.CollectionVersions;
+import hexlet.code.etag.IfMatch;
+import hexlet.code.etag.ResourceCollection;
+import hexlet.code.patch.MergePatch;
+import hexlet.code.patch.MergePatchReader;
 import hexlet.code.service.LabelService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,9 +36,14 @@ import java.util.List;
 public class LabelController {
 
     private final LabelService labelService;
+    private final MergePatchReader mergePatchReader;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping("")
-    public ResponseEntity<List<LabelDTO>> index() {
+    public ResponseEntity<List<LabelDTO>> index(WebRequest request) {
+        if (request.checkNotModified(collectionVersions.tag(ResourceCollection.LABELS))) {
+            return null;
+        }
         List<LabelDTO> labels = labelService.getAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(labels.size()))
@@ -36,7 +51,10 @@ public class LabelController {
     }
 
     @GetMapping("/{id}")
-    public LabelDTO show(@PathVariable Long id) {
+    public LabelDTO show(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(collectionVersions.rowTag(labelService.getVersion(id)))) {
+            return null;
+        }
         return labelService.findById(id);
     }
 
@@ -47,13 +65,30 @@ public class LabelController {
     }
 
     @PutMapping("/{id}")
-    public LabelDTO update(@PathVariable Long id, @Valid @RequestBody LabelUpdateDTO labelUpdateDTO) {
-        return labelService.update(id, labelUpdateDTO);
+    public LabelDTO update(
+            @PathVariable Long id,
+            @Valid @RequestBody LabelUpdateDTO labelUpdateDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        return labelService.update(id, labelUpdateDTO, IfMatch.version(ifMatch));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = MergePatch.MEDIA_TYPE)
+    public LabelDTO patch(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        return labelService.patch(id, mergePatchReader.read(patch, LabelUpdateDTO.class),
+                IfMatch.version(ifMatch));
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void destroy(@PathVariable Long id) {
-        labelService.delete(id);
+    public void destroy(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        labelService.delete(id, IfMatch.version(ifMatch));
     }
 }
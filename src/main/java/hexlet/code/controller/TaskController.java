@@ -1,25 +1,53 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import hexlet.code.dto.BoardColumnDTO;
+import hexlet.code.dto.BulkItemResultDTO;
+import hexlet.code.dto.TaskBulkUpdateDTO;
+import hexlet.code.dto.TaskChangesDTO;
+import hexlet.code.dto.TaskCountsDTO;
 import hexlet.code.dto.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskFields;
+import hexlet.code.dto.TaskFileFormat;
+import hexlet.code.dto.TaskMoveDTO;
+import hexlet.code.dto.TaskParamsDTO;
 import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.etag.CollectionVersions;
+import hexlet.code.etag.IfMatch;
+import hexlet.code.etag.ResourceCollection;
+import hexlet.code.pagination.TaskPage;
+import hexlet.code.patch.MergePatch;
+import hexlet.code.patch.MergePatchReader;
+import hexlet.code.service.TaskBulkService;
+import hexlet.code.service.TaskCountService;
+import hexlet.code.service.TaskExportService;
 import hexlet.code.service.TaskService;
 import jakarta.validation.Valid;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -27,22 +55,105 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final MergePatchReader mergePatchReader;
+    private final TaskCountService taskCountService;
+    private final TaskBulkService taskBulkService;
+    private final TaskExportService taskExportService;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping("")
     public ResponseEntity<List<TaskDTO>> index(
-            @RequestParam(required = false) String titleCont,
-            @RequestParam(required = false) Long assigneeId,
-            @RequestParam(required = false) String status,
-            @RequestParam(required = false) Long labelId
+            TaskParamsDTO params,
+            @RequestParam(name = "_start", defaultValue = "0") int start,
+            @RequestParam(name = "_end", required = false) Integer end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
     ) {
-        List<TaskDTO> tasks = taskService.getWithFilters(titleCont, assigneeId, status, labelId);
-        return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(tasks.size()))
-                .body(tasks);
+        if (isNotModified(request)) {
+            return null;
+        }
+        TaskPage page = getPage(params, start, end, cursor, limit);
+        return pageResponse(page).body(page.getContent());
+    }
+
+    @GetMapping(value = "", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> indexFields(
+            TaskParamsDTO params,
+            @RequestParam(name = "_start", defaultValue = "0") int start,
+            @RequestParam(name = "_end", required = false) Integer end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
+    ) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        Set<String> fields = TaskFields.parse(params.getFields());
+        TaskPage page = getPage(params, start, end, cursor, limit);
+        List<Map<String, Object>> content = page.getContent().stream()
+                .map(task -> TaskFields.select(task, fields))
+                .toList();
+        return pageResponse(page).body(content);
+    }
+
+    @GetMapping("/counts")
+    public TaskCountsDTO counts(WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        return taskCountService.getCounts();
+    }
+
+    @GetMapping("/changes")
+    public TaskChangesDTO changes(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return taskService.getChanges(since, limit);
+    }
+
+    @GetMapping("/export")
+    public void export(
+            TaskParamsDTO params,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response
+    ) throws IOException {
+        TaskFileFormat fileFormat = TaskFileFormat.parse(format);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(fileFormat == TaskFileFormat.CSV ? "text/csv" : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks."
+                + fileFormat.name().toLowerCase(Locale.ROOT) + "\"");
+        taskExportService.exportTasks(params, fileFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/board")
+    public List<BoardColumnDTO> board(@RequestParam(required = false) Integer perColumn, WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        return taskService.getBoard(perColumn);
+    }
+
+    @GetMapping("/board/{status}")
+    public BoardColumnDTO boardColumn(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
+    ) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        return taskService.getBoardColumn(status, cursor, limit);
     }
 
     @GetMapping("/{id}")
-    public TaskDTO show(@PathVariable Long id) {
+    public TaskDTO show(@PathVariable Long id, WebRequest request) {
+        String etag = collectionVersions.rowTag(taskService.getVersion(id), ResourceCollection.TASK_STATUSES);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         return taskService.findById(id);
     }
 
@@ -52,14 +163,70 @@ public class TaskController {
         return taskService.create(taskCreateDTO);
     }
 
+    @PostMapping("/bulk")
+    public List<BulkItemResultDTO> createAll(@RequestBody List<TaskCreateDTO> tasks) {
+        return taskBulkService.createAll(tasks);
+    }
+
+    @PutMapping("/bulk")
+    public List<BulkItemResultDTO> updateAll(@RequestBody List<TaskBulkUpdateDTO> tasks) {
+        return taskBulkService.updateAll(tasks);
+    }
+
+    @DeleteMapping("/bulk")
+    public List<BulkItemResultDTO> destroyAll(@RequestBody List<Long> ids) {
+        return taskBulkService.deleteAll(ids);
+    }
+
     @PutMapping("/{id}")
-    public TaskDTO update(@PathVariable Long id, @Valid @RequestBody TaskUpdateDTO taskUpdateDTO) {
-        return taskService.update(id, taskUpdateDTO);
+    public TaskDTO update(
+            @PathVariable Long id,
+            @Valid @RequestBody TaskUpdateDTO taskUpdateDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        return taskService.update(id, taskUpdateDTO, IfMatch.version(ifMatch));
+    }
+
+    @PostMapping("/{id}/move")
+    public TaskDTO move(@PathVariable Long id, @Valid @RequestBody TaskMoveDTO taskMoveDTO) {
+        return taskService.move(id, taskMoveDTO);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = MergePatch.MEDIA_TYPE)
+    public TaskDTO patch(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        return taskService.patch(id, mergePatchReader.read(patch, TaskUpdateDTO.class),
+                IfMatch.version(ifMatch));
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void destroy(@PathVariable Long id) {
-        taskService.delete(id);
+    public void destroy(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        taskService.delete(id, IfMatch.version(ifMatch));
+    }
+
+    private boolean isNotModified(WebRequest request) {
+        return request.checkNotModified(collectionVersions.tag(ResourceCollection.TASKS,
+                ResourceCollection.TASK_STATUSES));
+    }
+
+    private TaskPage getPage(TaskParamsDTO params, int start, Integer end, String cursor, Integer limit) {
+        Integer pageSize = limit == null && end != null ? end - start : limit;
+        return taskService.getPage(params, cursor, start, pageSize);
+    }
+
+    private ResponseEntity.BodyBuilder pageResponse(TaskPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(page.getTotal()));
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response;
     }
 }
@@ -0,0 +1,57 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.TaskImportProgressDTO;
+import hexlet.code.dto.TaskFileFormat;
+import hexlet.code.service.TaskImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/tasks/import")
+@AllArgsConstructor
+public class TaskImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final TaskImportService taskImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "", consumes = "text/csv")
+    public void importCsv(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importTasks(TaskFileFormat.CSV, request, response);
+    }
+
+    @PostMapping(value = "", consumes = NDJSON)
+    public void importNdjson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importTasks(TaskFileFormat.NDJSON, request, response);
+    }
+
+    private void importTasks(TaskFileFormat format, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        OutputStream output = response.getOutputStream();
+        taskImportService.importTasks(request.getInputStream(), format, progress -> send(output, progress));
+    }
+
+    private void send(OutputStream output, TaskImportProgressDTO progress) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(progress));
+            output.write('\n');
+            if (!TaskImportProgressDTO.REJECTED.equals(progress.getType())) {
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
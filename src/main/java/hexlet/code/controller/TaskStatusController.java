@@ -1,22 +1,32 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import hexlet.code.dto.TaskStatusCreateDTO;
 import hexlet.code.dto.TaskStatusDTO;
 import hexlet.code.dto.TaskStatusUpdateDTO;
+import hexlet.code.etag.CollectionVersions;
+import hexlet.code.etag.IfMatch;
+import hexlet.code.etag.ResourceCollection;
+import hexlet.code.patch.MergePatch;
+import hexlet.code.patch.MergePatchReader;
 import hexlet.code.service.TaskStatusService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,9 +36,14 @@ import java.util.List;
 public class TaskStatusController {
 
     private final TaskStatusService taskStatusService;
+    private final MergePatchReader mergePatchReader;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping("")
-    public ResponseEntity<List<TaskStatusDTO>> index() {
+    public ResponseEntity<List<TaskStatusDTO>> index(WebRequest request) {
+        if (request.checkNotModified(collectionVersions.tag(ResourceCollection.TASK_STATUSES))) {
+            return null;
+        }
         List<TaskStatusDTO> taskStatuses = taskStatusService.getAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(taskStatuses.size()))
@@ -36,7 +51,10 @@ public class TaskStatusController {
     }
 
     @GetMapping("/{id}")
-    public TaskStatusDTO show(@PathVariable Long id) {
+    public TaskStatusDTO show(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(collectionVersions.rowTag(taskStatusService.getVersion(id)))) {
+            return null;
+        }
         return taskStatusService.findById(id);
     }
 
@@ -47,13 +65,30 @@ public class TaskStatusController {
     }
 
     @PutMapping("/{id}")
-    public TaskStatusDTO update(@PathVariable Long id, @Valid @RequestBody TaskStatusUpdateDTO taskStatusUpdateDTO) {
-        return taskStatusService.update(id, taskStatusUpdateDTO);
+    public TaskStatusDTO update(
+            @PathVariable Long id,
+            @Valid @RequestBody TaskStatusUpdateDTO taskStatusUpdateDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        return taskStatusService.update(id, taskStatusUpdateDTO, IfMatch.version(ifMatch));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = MergePatch.MEDIA_TYPE)
+    public TaskStatusDTO patch(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        return taskStatusService.patch(id, mergePatchReader.read(patch, TaskStatusUpdateDTO.class),
+                IfMatch.version(ifMatch));
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void destroy(@PathVariable Long id) {
-        taskStatusService.delete(id);
+    public void destroy(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        taskStatusService.delete(id, IfMatch.version(ifMatch));
     }
 }
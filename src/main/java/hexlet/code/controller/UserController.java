@@ -1,23 +1,33 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import hexlet.code.dto.UserCreateDTO;
 import hexlet.code.dto.UserDTO;
 import hexlet.code.dto.UserUpdateDTO;
+import hexlet.code.etag.CollectionVersions;
+import hexlet.code.etag.IfMatch;
+import hexlet.code.etag.ResourceCollection;
+import hexlet.code.patch.MergePatch;
+import hexlet.code.patch.MergePatchReader;
 import hexlet.code.service.UserService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,9 +37,14 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final MergePatchReader mergePatchReader;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping("")
-    public ResponseEntity<List<UserDTO>> index() {
+    public ResponseEntity<List<UserDTO>> index(WebRequest request) {
+        if (request.checkNotModified(collectionVersions.tag(ResourceCollection.USERS))) {
+            return null;
+        }
         List<UserDTO> users = userService.getAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(users.size()))
@@ -37,7 +52,10 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public UserDTO show(@PathVariable Long id) {
+    public UserDTO show(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(collectionVersions.rowTag(userService.getVersion(id)))) {
+            return null;
+        }
         return userService.findById(id);
     }
 
@@ -49,14 +67,32 @@ public class UserController {
 
     @PutMapping("/{id}")
     @PreAuthorize("@userService.findEmailById(#id) == authentication.name")
-    public UserDTO update(@PathVariable Long id, @Valid @RequestBody UserUpdateDTO userUpdateDTO) {
-        return userService.update(id, userUpdateDTO);
+    public UserDTO update(
+            @PathVariable Long id,
+            @Valid @RequestBody UserUpdateDTO userUpdateDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        return userService.update(id, userUpdateDTO, IfMatch.version(ifMatch));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = MergePatch.MEDIA_TYPE)
+    @PreAuthorize("@userService.findEmailById(#id) == authentication.name")
+    public UserDTO patch(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        return userService.patch(id, mergePatchReader.read(patch, UserUpdateDTO.class),
+                IfMatch.version(ifMatch));
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("@userService.findEmailById(#id) == authentication.name")
-    public void destroy(@PathVariable Long id) {
-        userService.delete(id);
+    public void destroy(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        userService.delete(id, IfMatch.version(ifMatch));
     }
 }
@@ -0,0 +1,17 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BoardColumnDTO {
+    private Long statusId;
+    private String status;
+    private String name;
+    private long total;
+    private List<TaskDTO> tasks;
+    private String nextCursor;
+}
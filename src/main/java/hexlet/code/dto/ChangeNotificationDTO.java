@@ -0,0 +1,13 @@
+package hexlet.code.dto;
+
+import hexlet.code.event.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ChangeNotificationDTO {
+    private final String entity;
+    private final ChangeType type;
+    private final Long id;
+}
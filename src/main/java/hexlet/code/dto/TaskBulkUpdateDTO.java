@@ -0,0 +1,12 @@
+package hexlet.code.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskBulkUpdateDTO extends TaskUpdateDTO {
+    @NotNull
+    private Long id;
+}
@@ -0,0 +1,15 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class TaskChangesDTO {
+    private List<TaskDTO> updated;
+    private List<Long> deleted;
+    private String next;
+    private boolean hasMore;
+}
@@ -0,0 +1,15 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+public class TaskCountsDTO {
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<Long, Long> byAssignee;
+    private Map<Long, Long> byLabel;
+}
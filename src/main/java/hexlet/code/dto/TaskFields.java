@@ -0,0 +1,61 @@
+package hexlet.code.dto;
+
+import hexlet.code.exception.InvalidFieldException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class TaskFields {
+
+    public static final String ID = "id";
+    public static final String INDEX = "index";
+    public static final String CREATED_AT = "createdAt";
+    public static final String ASSIGNEE_ID = "assignee_id";
+    public static final String TITLE = "title";
+    public static final String CONTENT = "content";
+    public static final String STATUS = "status";
+    public static final String LABEL_IDS = "taskLabelIds";
+
+    public static final Set<String> ALL = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(ID, INDEX,
+            CREATED_AT, ASSIGNEE_ID, TITLE, CONTENT, STATUS, LABEL_IDS)));
+
+    private TaskFields() {
+    }
+
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!ALL.contains(name)) {
+                throw new InvalidFieldException(name);
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    public static Map<String, Object> select(TaskDTO task, Set<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            values.put(field, switch (field) {
+                case ID -> task.getId();
+                case INDEX -> task.getIndex();
+                case CREATED_AT -> task.getCreatedAt();
+                case ASSIGNEE_ID -> task.getAssigneeId();
+                case TITLE -> task.getTitle();
+                case CONTENT -> task.getContent();
+                case STATUS -> task.getStatus();
+                case LABEL_IDS -> task.getTaskLabelIds();
+                default -> throw new InvalidFieldException(field);
+            });
+        }
+        return values;
+    }
+}
@@ -0,0 +1,23 @@
+package hexlet.code.dto;
+
+import hexlet.code.exception.UnsupportedFormatException;
+
+import java.util.Locale;
+
+public enum TaskFileFormat {
+    CSV,
+    NDJSON;
+
+    public static TaskFileFormat parse(String format) {
+        for (TaskFileFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new UnsupportedFormatException(format);
+    }
+
+    public static TaskFileFormat fromFileName(String fileName) {
+        return fileName.toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : NDJSON;
+    }
+}
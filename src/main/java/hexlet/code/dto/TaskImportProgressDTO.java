@@ -0,0 +1,31 @@
+package hexlet.code.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskImportProgressDTO {
+    public static final String REJECTED = "rejected";
+    public static final String PROGRESS = "progress";
+    public static final String COMPLETED = "completed";
+    public static final String FAILED = "failed";
+
+    private String type;
+
+    private Long row;
+
+    private String error;
+
+    private Long processed;
+
+    private Long imported;
+
+    private Long rejected;
+}
@@ -0,0 +1,22 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class TaskImportRowDTO {
+    private String title;
+
+    private Integer index;
+
+    private String content;
+
+    private String status;
+
+    private String assignee;
+
+    private List<String> labels;
+}
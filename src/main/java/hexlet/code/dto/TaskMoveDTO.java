@@ -0,0 +1,18 @@
+package hexlet.code.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskMoveDTO {
+    private String status;
+
+    private Long afterId;
+
+    private Long beforeId;
+
+    @Min(0)
+    private Integer position;
+}
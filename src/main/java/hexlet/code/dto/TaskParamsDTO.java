@@ -0,0 +1,18 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class TaskParamsDTO {
+    private String q;
+    private String titleCont;
+    private Long assigneeId;
+    private String status;
+    private List<Long> labelId;
+    private String labelMatch;
+    private String fields;
+}
@@ -0,0 +1,73 @@
+package hexlet.code.etag;
+
+import hexlet.code.event.LabelChangedEvent;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.event.TaskStatusChangedEvent;
+import hexlet.code.event.TasksImportedEvent;
+import hexlet.code.event.UserChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CollectionVersions {
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<ResourceCollection, AtomicLong> versions = new EnumMap<>(ResourceCollection.class);
+
+    public CollectionVersions() {
+        for (ResourceCollection collection : ResourceCollection.values()) {
+            versions.put(collection, new AtomicLong());
+        }
+    }
+
+    public String tag(ResourceCollection... collections) {
+        StringBuilder tag = new StringBuilder(epoch);
+        for (ResourceCollection collection : collections) {
+            tag.append('-').append(versions.get(collection).get());
+        }
+        return tag.toString();
+    }
+
+    public String rowTag(long rowVersion, ResourceCollection... dependencies) {
+        if (dependencies.length == 0) {
+            return "r" + rowVersion;
+        }
+        return "r" + rowVersion + "-" + tag(dependencies);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        bump(ResourceCollection.TASKS);
+    }
+
+    @EventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        bump(ResourceCollection.TASKS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        bump(ResourceCollection.TASK_STATUSES);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onLabelChanged(LabelChangedEvent event) {
+        bump(ResourceCollection.LABELS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        bump(ResourceCollection.USERS);
+    }
+
+    private void bump(ResourceCollection collection) {
+        versions.get(collection).incrementAndGet();
+    }
+}
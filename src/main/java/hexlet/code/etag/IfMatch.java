@@ -0,0 +1,38 @@
+package hexlet.code.etag;
+
+import hexlet.code.exception.PreconditionFailedException;
+
+public final class IfMatch {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private IfMatch() {
+    }
+
+    public static Long version(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " is a weak tag");
+        }
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        int end = tag.indexOf('-');
+        String version = tag.startsWith("r") ? tag.substring(1, end < 0 ? tag.length() : end) : "";
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " is not a row version tag");
+        }
+    }
+
+    public static void check(Long expectedVersion, Long version, String resource, Long id) {
+        if (expectedVersion != null && !expectedVersion.equals(version)) {
+            throw new PreconditionFailedException(resource + " " + id + " has version " + version
+                    + ", not " + expectedVersion);
+        }
+    }
+}
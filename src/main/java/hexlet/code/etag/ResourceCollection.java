@@ -0,0 +1,8 @@
+package hexlet.code.etag;
+
+public enum ResourceCollection {
+    TASKS,
+    TASK_STATUSES,
+    LABELS,
+    USERS
+}
@@ -0,0 +1,12 @@
+package hexlet.code.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public abstract class EntityChangedEvent<T> {
+    private final ChangeType type;
+    private final Long id;
+    private final T entity;
+}
@@ -0,0 +1,9 @@
+package hexlet.code.event;
+
+import hexlet.code.model.Label;
+
+public class LabelChangedEvent extends EntityChangedEvent<Label> {
+    public LabelChangedEvent(ChangeType type, Label label) {
+        super(type, label.getId(), label);
+    }
+}
@@ -0,0 +1,31 @@
+package hexlet.code.event;
+
+import hexlet.code.model.Label;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LabelEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Label label) {
+        eventPublisher.publishEvent(new LabelChangedEvent(ChangeType.CREATED, label));
+    }
+
+    @PostUpdate
+    public void onUpdated(Label label) {
+        eventPublisher.publishEvent(new LabelChangedEvent(ChangeType.UPDATED, label));
+    }
+
+    @PostRemove
+    public void onDeleted(Label label) {
+        eventPublisher.publishEvent(new LabelChangedEvent(ChangeType.DELETED, label));
+    }
+}
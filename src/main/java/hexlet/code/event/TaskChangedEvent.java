@@ -0,0 +1,9 @@
+package hexlet.code.event;
+
+import hexlet.code.model.Task;
+
+public class TaskChangedEvent extends EntityChangedEvent<Task> {
+    public TaskChangedEvent(ChangeType type, Task task) {
+        super(type, task.getId(), task);
+    }
+}
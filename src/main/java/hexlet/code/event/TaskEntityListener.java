@@ -0,0 +1,31 @@
+package hexlet.code.event;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TaskEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Task task) {
+        eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.CREATED, task));
+    }
+
+    @PostUpdate
+    public void onUpdated(Task task) {
+        eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.UPDATED, task));
+    }
+
+    @PostRemove
+    public void onDeleted(Task task) {
+        eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.DELETED, task));
+    }
+}
@@ -0,0 +1,9 @@
+package hexlet.code.event;
+
+import hexlet.code.model.TaskStatus;
+
+public class TaskStatusChangedEvent extends EntityChangedEvent<TaskStatus> {
+    public TaskStatusChangedEvent(ChangeType type, TaskStatus taskStatus) {
+        super(type, taskStatus.getId(), taskStatus);
+    }
+}
@@ -0,0 +1,31 @@
+package hexlet.code.event;
+
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TaskStatusEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(TaskStatus taskStatus) {
+        eventPublisher.publishEvent(new TaskStatusChangedEvent(ChangeType.CREATED, taskStatus));
+    }
+
+    @PostUpdate
+    public void onUpdated(TaskStatus taskStatus) {
+        eventPublisher.publishEvent(new TaskStatusChangedEvent(ChangeType.UPDATED, taskStatus));
+    }
+
+    @PostRemove
+    public void onDeleted(TaskStatus taskStatus) {
+        eventPublisher.publishEvent(new TaskStatusChangedEvent(ChangeType.DELETED, taskStatus));
+    }
+}
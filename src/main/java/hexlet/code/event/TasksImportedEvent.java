@@ -0,0 +1,10 @@
+package hexlet.code.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TasksImportedEvent {
+    private final long count;
+}
@@ -0,0 +1,12 @@
+package hexlet.code.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TasksInsertedEvent {
+    private final List<Long> ids;
+}
@@ -0,0 +1,9 @@
+package hexlet.code.event;
+
+import hexlet.code.model.User;
+
+public class UserChangedEvent extends EntityChangedEvent<User> {
+    public UserChangedEvent(ChangeType type, User user) {
+        super(type, user.getId(), user);
+    }
+}
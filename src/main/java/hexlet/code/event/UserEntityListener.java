@@ -0,0 +1,31 @@
+package hexlet.code.event;
+
+import hexlet.code.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(ChangeType.CREATED, user));
+    }
+
+    @PostUpdate
+    public void onUpdated(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(ChangeType.UPDATED, user));
+    }
+
+    @PostRemove
+    public void onDeleted(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(ChangeType.DELETED, user));
+    }
+}
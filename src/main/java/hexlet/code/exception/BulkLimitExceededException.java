@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class BulkLimitExceededException extends RuntimeException {
+    public BulkLimitExceededException(int size, int limit) {
+        super("Bulk request of " + size + " items exceeds the limit of " + limit);
+    }
+}
@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class ChangeTokenExpiredException extends RuntimeException {
+    public ChangeTokenExpiredException(String token) {
+        super("Change token " + token + " is older than the retained tombstones, resync without since");
+    }
+}
@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class InvalidFieldException extends RuntimeException {
+    public InvalidFieldException(String field) {
+        super("Unknown task field " + field);
+    }
+}
@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class InvalidMoveException extends RuntimeException {
+    public InvalidMoveException(String message) {
+        super(message);
+    }
+}
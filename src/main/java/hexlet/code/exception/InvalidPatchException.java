@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class InvalidPatchException extends RuntimeException {
+    public InvalidPatchException(String message) {
+        super("Invalid merge patch: " + message);
+    }
+}
@@ -0,0 +1,15 @@
+package hexlet.code.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class LoginQueueFullException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public LoginQueueFullException(int capacity, Duration retryAfter) {
+        super("Too many concurrent logins, the queue of " + capacity + " is full");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,15 @@
+package hexlet.code.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class LoginTimeoutException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public LoginTimeoutException(Duration timeout, Duration retryAfter) {
+        super("Login was not processed within " + timeout.toMillis() + " ms");
+        this.retryAfter = retryAfter;
+    }
+}
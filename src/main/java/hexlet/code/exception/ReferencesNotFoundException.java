@@ -0,0 +1,9 @@
+package hexlet.code.exception;
+
+import java.util.List;
+
+public class ReferencesNotFoundException extends RuntimeException {
+    public ReferencesNotFoundException(List<String> missing) {
+        super(String.join("; ", missing));
+    }
+}
@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class TooManySubscribersException extends RuntimeException {
+    public TooManySubscribersException(int limit) {
+        super("Event stream subscriber limit of " + limit + " reached");
+    }
+}
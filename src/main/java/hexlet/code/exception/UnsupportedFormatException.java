@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class UnsupportedFormatException extends RuntimeException {
+    public UnsupportedFormatException(String format) {
+        super("Unsupported format " + format);
+    }
+}
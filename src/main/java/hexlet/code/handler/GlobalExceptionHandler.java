@@ -1,17 +1,31 @@
 package hexlet.code.handler;
 
+import hexlet.code.exception.InvalidCursorException;
+import hexlet.code.exception.ChangeTokenExpiredException;
+import hexlet.code.exception.BulkLimitExceededException;
+import hexlet.code.exception.InvalidFieldException;
+import hexlet.code.exception.InvalidMoveException;
+import hexlet.code.exception.InvalidPatchException;
 import hexlet.code.exception.LabelNotFoundException;
+import hexlet.code.exception.LoginQueueFullException;
+import hexlet.code.exception.LoginTimeoutException;
+import hexlet.code.exception.PreconditionFailedException;
+import hexlet.code.exception.ReferencesNotFoundException;
 import hexlet.code.exception.RsaKeyLoadingException;
 import hexlet.code.exception.SentryTestException;
 import hexlet.code.exception.TaskNotFoundException;
 import hexlet.code.exception.TaskStatusDeletionException;
 import hexlet.code.exception.TaskStatusNotFoundException;
+import hexlet.code.exception.TooManySubscribersException;
+import hexlet.code.exception.UnsupportedFormatException;
 import hexlet.code.exception.UserDeletionException;
 import hexlet.code.exception.UserNotFoundException;
 import hexlet.code.exception.LabelDeletionException;
 import io.sentry.Sentry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -100,6 +114,89 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<String> handleChangeTokenExpiredException(ChangeTokenExpiredException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.GONE).body(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidFieldException.class)
+    public ResponseEntity<String> handleInvalidFieldException(InvalidFieldException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(TooManySubscribersException.class)
+    public ResponseEntity<String> handleTooManySubscribersException(TooManySubscribersException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
+    @ExceptionHandler(LoginQueueFullException.class)
+    public ResponseEntity<String> handleLoginQueueFullException(LoginQueueFullException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(LoginTimeoutException.class)
+    public ResponseEntity<String> handleLoginTimeoutException(LoginTimeoutException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(ReferencesNotFoundException.class)
+    public ResponseEntity<String> handleReferencesNotFoundException(ReferencesNotFoundException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<String> handleInvalidPatchException(InvalidPatchException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<String> handlePreconditionFailedException(PreconditionFailedException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body("The resource was modified by a concurrent request");
+    }
+
+    @ExceptionHandler(InvalidMoveException.class)
+    public ResponseEntity<String> handleInvalidMoveException(InvalidMoveException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(UnsupportedFormatException.class)
+    public ResponseEntity<String> handleUnsupportedFormatException(UnsupportedFormatException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(BulkLimitExceededException.class)
+    public ResponseEntity<String> handleBulkLimitExceededException(BulkLimitExceededException e) {
+        safeCapture(e);
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getMessage());
+    }
+
     @ExceptionHandler(RsaKeyLoadingException.class)
     public ResponseEntity<String> handleRsaKeyLoadingException(RsaKeyLoadingException e) {
         safeCapture(e);
@@ -0,0 +1,11 @@
+package hexlet.code.importer;
+
+import hexlet.code.dto.TaskCreateDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+
+import java.util.Set;
+
+public record ImportedTask(long row, TaskCreateDTO task, TaskStatus status, User assignee, Set<Label> labels) {
+}
@@ -0,0 +1,33 @@
+package hexlet.code.importer;
+
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class JpaTaskImportWriter implements TaskImportWriter {
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public void write(List<ImportedTask> tasks) {
+        List<Task> entities = tasks.stream()
+                .map(task -> taskMapper.map(task.task(), task.status(), task.assignee(), task.labels()))
+                .toList();
+        taskRepository.saveAll(entities);
+    }
+}
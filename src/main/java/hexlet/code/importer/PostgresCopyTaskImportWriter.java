@@ -0,0 +1,131 @@
+package hexlet.code.importer;
+
+import hexlet.code.config.TaskProperties;
+import hexlet.code.event.TasksImportedEvent;
+import hexlet.code.event.TasksInsertedEvent;
+import hexlet.code.model.Label;
+import hexlet.code.model.IdGeneration;
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class PostgresCopyTaskImportWriter implements TaskImportWriter {
+
+    private static final String COPY_TASKS = "COPY tasks (id, title, index, position, content, task_status_id,"
+            + " assignee_id, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_TASK_LABELS = "COPY task_label (task_id, label_id) FROM STDIN WITH (FORMAT csv)";
+    private static final String NEXT_ID_BLOCKS = "select nextval('tasks_seq') from generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskProperties taskProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public boolean isAvailable() {
+        if (!taskProperties.isImportUseCopy()) {
+            return false;
+        }
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.isWrapperFor(PGConnection.class));
+        }
+        return Boolean.TRUE.equals(postgres);
+    }
+
+    @Override
+    public void write(List<ImportedTask> tasks) {
+        List<Long> ids = allocateIds(tasks.size());
+        String now = Instant.now().toString();
+        StringBuilder taskRows = new StringBuilder();
+        StringBuilder labelRows = new StringBuilder();
+        for (int i = 0; i < tasks.size(); i++) {
+            ImportedTask task = tasks.get(i);
+            Long id = ids.get(i);
+            taskRows.append(id).append(',')
+                    .append(quote(task.task().getTitle())).append(',')
+                    .append(value(task.task().getIndex())).append(',')
+                    .append(value(Task.positionOf(task.task().getIndex()))).append(',')
+                    .append(quote(task.task().getContent())).append(',')
+                    .append(task.status().getId()).append(',')
+                    .append(value(task.assignee() == null ? null : task.assignee().getId())).append(',')
+                    .append(now).append(',')
+                    .append(now).append('\n');
+            if (task.labels() != null) {
+                for (Label label : task.labels()) {
+                    labelRows.append(id).append(',').append(label.getId()).append('\n');
+                }
+            }
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                copyManager.copyIn(COPY_TASKS, new StringReader(taskRows.toString()));
+                if (!labelRows.isEmpty()) {
+                    copyManager.copyIn(COPY_TASK_LABELS, new StringReader(labelRows.toString()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+        eventPublisher.publishEvent(new TasksInsertedEvent(List.copyOf(ids.subList(0, tasks.size()))));
+    }
+
+    @Override
+    public void finish(long imported) {
+        if (imported > 0) {
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            cache.evictEntityData(Task.class);
+            cache.evictCollectionData(Task.class.getName() + ".labels");
+            cache.evictQueryRegions();
+            eventPublisher.publishEvent(new TasksImportedEvent(imported));
+        }
+    }
+
+    private List<Long> allocateIds(int count) {
+        int blockSize = IdGeneration.ALLOCATION_SIZE;
+        int blocks = (count + blockSize - 1) / blockSize;
+        List<Long> ids = new ArrayList<>(blocks * blockSize);
+        for (Long high : jdbcTemplate.queryForList(NEXT_ID_BLOCKS, Long.class, blocks)) {
+            for (long id = high - blockSize + 1; id <= high; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static String value(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
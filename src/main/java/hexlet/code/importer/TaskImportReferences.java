@@ -0,0 +1,37 @@
+package hexlet.code.importer;
+
+import hexlet.code.cache.ReferenceCache;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class TaskImportReferences {
+
+    private final ReferenceCache referenceCache;
+    private final UserRepository userRepository;
+
+    private final Map<String, Optional<TaskStatus>> statuses = new HashMap<>();
+    private final Map<String, Optional<User>> users = new HashMap<>();
+    private final Map<String, Optional<Label>> labels = new HashMap<>();
+
+    public Optional<TaskStatus> findStatus(String slug) {
+        return statuses.computeIfAbsent(slug, referenceCache::findTaskStatusBySlug);
+    }
+
+    public Optional<User> findUser(String email) {
+        return users.computeIfAbsent(email.toLowerCase(Locale.ROOT), key -> referenceCache.findUserId(key)
+                .map(userRepository::getReferenceById));
+    }
+
+    public Optional<Label> findLabel(String name) {
+        return labels.computeIfAbsent(name, referenceCache::findLabelByName);
+    }
+}
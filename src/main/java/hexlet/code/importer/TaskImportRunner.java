@@ -0,0 +1,78 @@
+package hexlet.code.importer;
+
+import hexlet.code.dto.TaskFileFormat;
+import hexlet.code.dto.TaskImportProgressDTO;
+import hexlet.code.service.TaskImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskImportRunner implements ApplicationRunner {
+
+    private static final String FILE_OPTION = "import-tasks";
+    private static final String FORMAT_OPTION = "import-format";
+
+    private final TaskImportService taskImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(FILE_OPTION)) {
+            return;
+        }
+        int exitCode = 0;
+        try {
+            importFiles(args);
+        } catch (Exception e) {
+            log.error("Task import failed", e);
+            exitCode = 1;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+
+    private void importFiles(ApplicationArguments args) throws IOException {
+        for (String file : args.getOptionValues(FILE_OPTION)) {
+            Path path = Path.of(file);
+            TaskFileFormat format = format(args, path);
+            log.info("Importing tasks from {} as {}", path, format);
+            try (InputStream input = new BufferedInputStream(Files.newInputStream(path))) {
+                TaskImportProgressDTO result = taskImportService.importTasks(input, format, this::report);
+                if (TaskImportProgressDTO.FAILED.equals(result.getType())) {
+                    throw new IllegalStateException("Task import from " + path + " failed: " + result.getError());
+                }
+            }
+        }
+    }
+
+    private TaskFileFormat format(ApplicationArguments args, Path path) {
+        List<String> formats = args.getOptionValues(FORMAT_OPTION);
+        if (formats == null || formats.isEmpty()) {
+            return TaskFileFormat.fromFileName(path.getFileName().toString());
+        }
+        return TaskFileFormat.parse(formats.get(0));
+    }
+
+    private void report(TaskImportProgressDTO progress) {
+        if (TaskImportProgressDTO.REJECTED.equals(progress.getType())) {
+            log.warn("Row {} rejected: {}", progress.getRow(), progress.getError());
+        } else {
+            log.info("{}: {} rows read, {} imported, {} rejected", progress.getType(), progress.getProcessed(),
+                    progress.getImported(), progress.getRejected());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package hexlet.code.importer;
+
+import java.util.List;
+
+public interface TaskImportWriter {
+    boolean isAvailable();
+    void write(List<ImportedTask> tasks);
+
+    default void finish(long imported) {
+    }
+}
@@ -0,0 +1,89 @@
+package hexlet.code.login;
+
+import hexlet.code.config.LoginProperties;
+import hexlet.code.exception.LoginQueueFullException;
+import hexlet.code.exception.LoginTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Component
+public class LoginAdmission {
+
+    private final LoginProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Timer verificationTimer;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public LoginAdmission(LoginProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    LoginAdmission(LoginProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.getHashingThreads(), properties.getHashingThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("login-", 0).daemon(true).factory());
+        new ExecutorServiceMetrics(executor, "login", List.of()).bindTo(registry);
+        this.verificationTimer = Timer.builder("login.verification")
+                .description("Time spent verifying login credentials on the hashing pool")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.rejectedCounter = Counter.builder("login.rejected")
+                .description("Logins refused because the hashing queue was full or the wait timed out")
+                .register(registry);
+    }
+
+    public <T> T submit(Supplier<T> verification) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> verificationTimer.record(verification));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new LoginQueueFullException(properties.getQueueCapacity(), properties.getRetryAfter());
+        }
+
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new LoginTimeoutException(properties.getTimeout(), properties.getRetryAfter());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new LoginTimeoutException(properties.getTimeout(), properties.getRetryAfter());
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
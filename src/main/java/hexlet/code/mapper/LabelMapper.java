@@ -4,6 +4,7 @@ import hexlet.code.dto.LabelCreateDTO;
 import hexlet.code.dto.LabelDTO;
 import hexlet.code.dto.LabelUpdateDTO;
 import hexlet.code.model.Label;
+import hexlet.code.patch.MergePatch;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -28,4 +29,10 @@ public class LabelMapper {
             label.setName(labelUpdateDTO.getName());
         }
     }
+
+    public void patch(MergePatch<LabelUpdateDTO> patch, Label label) {
+        if (patch.has("name")) {
+            label.setName(patch.required("name", patch.values().getName()));
+        }
+    }
 }
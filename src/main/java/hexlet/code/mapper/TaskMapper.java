@@ -3,34 +3,36 @@ package hexlet.code.mapper;
 import hexlet.code.dto.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO;
 import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.model.Label;
 import hexlet.code.model.Task;
-import hexlet.code.service.LabelService;
-import hexlet.code.service.TaskStatusService;
-import hexlet.code.service.UserService;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.patch.MergePatch;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 public class TaskMapper {
 
     @Autowired
-    private TaskStatusService taskStatusService;
-
-    @Autowired
-    private UserService userService;
-
-    @Autowired
-    private LabelService labelService;
+    private TaskReferenceResolver taskReferenceResolver;
 
     public TaskDTO map(Task task) {
+        return map(task, true);
+    }
+
+    public TaskDTO map(Task task, boolean withContent) {
         TaskDTO taskDTO = new TaskDTO();
         taskDTO.setId(task.getId());
         taskDTO.setIndex(task.getIndex());
         taskDTO.setCreatedAt(task.getCreatedAt());
         taskDTO.setTitle(task.getTitle());
-        taskDTO.setContent(task.getContent());
+        if (withContent) {
+            taskDTO.setContent(task.getContent());
+        }
         taskDTO.setStatus(task.getTaskStatus().getSlug());
         if (task.getAssignee() != null) {
             taskDTO.setAssigneeId(task.getAssignee().getId());
@@ -44,42 +46,87 @@ public class TaskMapper {
     }
 
     public Task map(TaskCreateDTO taskCreateDTO) {
+        String status = taskCreateDTO.getStatus();
+        Long assigneeId = taskCreateDTO.getAssigneeId();
+        Set<Long> labelIds = taskCreateDTO.getTaskLabelIds();
+        TaskReferences references = taskReferenceResolver.resolve(status, assigneeId, labelIds);
+        references.requireAll(status, true, assigneeId, labelIds);
+        return map(taskCreateDTO, references.status(status), references.user(assigneeId),
+                references.labels(labelIds));
+    }
+
+    public Task map(TaskCreateDTO taskCreateDTO, TaskStatus taskStatus, User assignee, Set<Label> labels) {
         Task task = new Task();
         task.setTitle(taskCreateDTO.getTitle());
         task.setIndex(taskCreateDTO.getIndex());
         task.setContent(taskCreateDTO.getContent());
-        task.setTaskStatus(taskStatusService.findBySlug(taskCreateDTO.getStatus()));
-        if (taskCreateDTO.getAssigneeId() != null) {
-            task.setAssignee(userService.findByIdEntity(taskCreateDTO.getAssigneeId()));
-        }
-        if (taskCreateDTO.getTaskLabelIds() != null) {
-            task.setLabels(taskCreateDTO.getTaskLabelIds().stream()
-                    .map(labelId -> labelService.findByIdEntity(labelId))
-                    .collect(Collectors.toSet()));
+        task.setTaskStatus(taskStatus);
+        task.setAssignee(assignee);
+        if (labels != null) {
+            task.setLabels(labels);
         }
         return task;
     }
 
     public void update(TaskUpdateDTO taskUpdateDTO, Task task) {
+        String status = taskUpdateDTO.getStatus();
+        Long assigneeId = taskUpdateDTO.getAssigneeId();
+        Set<Long> labelIds = taskUpdateDTO.getTaskLabelIds();
+        TaskReferences references = taskReferenceResolver.resolve(status, assigneeId, labelIds);
+        references.requireAll(status, false, assigneeId, labelIds);
+        update(taskUpdateDTO, task, references.status(status), references.user(assigneeId),
+                references.labels(labelIds));
+    }
+
+    public void update(TaskUpdateDTO taskUpdateDTO, Task task, TaskStatus taskStatus, User assignee,
+                       Set<Label> labels) {
         if (taskUpdateDTO.getTitle() != null) {
             task.setTitle(taskUpdateDTO.getTitle());
         }
         if (taskUpdateDTO.getIndex() != null) {
-            task.setIndex(taskUpdateDTO.getIndex());
+            task.reorder(taskUpdateDTO.getIndex());
         }
         if (taskUpdateDTO.getContent() != null) {
             task.setContent(taskUpdateDTO.getContent());
         }
-        if (taskUpdateDTO.getStatus() != null) {
-            task.setTaskStatus(taskStatusService.findBySlug(taskUpdateDTO.getStatus()));
+        if (taskStatus != null) {
+            task.setTaskStatus(taskStatus);
         }
-        if (taskUpdateDTO.getAssigneeId() != null) {
-            task.setAssignee(userService.findByIdEntity(taskUpdateDTO.getAssigneeId()));
+        if (assignee != null) {
+            task.setAssignee(assignee);
         }
-        if (taskUpdateDTO.getTaskLabelIds() != null) {
-            task.setLabels(taskUpdateDTO.getTaskLabelIds().stream()
-                    .map(labelId -> labelService.findByIdEntity(labelId))
-                    .collect(Collectors.toSet()));
+        if (labels != null) {
+            task.setLabels(labels);
+        }
+    }
+
+    public void patch(MergePatch<TaskUpdateDTO> patch, Task task) {
+        TaskUpdateDTO values = patch.values();
+        String status = patch.has("status") ? patch.required("status", values.getStatus()) : null;
+        Long assigneeId = patch.has("assignee_id") ? values.getAssigneeId() : null;
+        Set<Long> labelIds = patch.has("taskLabelIds") ? values.getTaskLabelIds() : null;
+        TaskReferences references = taskReferenceResolver.resolve(status, assigneeId, labelIds);
+        references.requireAll(status, false, assigneeId, labelIds);
+
+        if (patch.has("title")) {
+            task.setTitle(patch.required("title", values.getTitle()));
+        }
+        if (patch.has("index")) {
+            task.reorder(values.getIndex());
+        }
+        if (patch.has("content")) {
+            task.setContent(values.getContent());
+        }
+        if (patch.has("status")) {
+            task.setTaskStatus(references.status(status));
+        }
+        if (patch.has("assignee_id")) {
+            task.setAssignee(references.user(assigneeId));
+        }
+        if (patch.has("taskLabelIds")) {
+            Set<Label> labels = labelIds == null ? Set.of() : references.labels(labelIds);
+            task.getLabels().retainAll(labels);
+            task.getLabels().addAll(labels);
         }
     }
 }
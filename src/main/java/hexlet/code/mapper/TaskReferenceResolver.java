@@ -0,0 +1,34 @@
+package hexlet.code.mapper;
+
+import hexlet.code.cache.ReferenceCache;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@AllArgsConstructor
+public class TaskReferenceResolver {
+
+    private final ReferenceCache referenceCache;
+    private final UserRepository userRepository;
+
+    public TaskReferences resolve(String status, Long assigneeId, Set<Long> labelIds) {
+        return resolve(status == null ? Set.of() : Set.of(status),
+                assigneeId == null ? Set.of() : Set.of(assigneeId),
+                labelIds == null ? Set.of() : labelIds);
+    }
+
+    public TaskReferences resolve(Collection<String> slugs, Collection<Long> userIds, Collection<Long> labelIds) {
+        Map<Long, User> users = referenceCache.findUserEmails(userIds).keySet().stream()
+                .collect(Collectors.toMap(Function.identity(), userRepository::getReferenceById));
+        return new TaskReferences(referenceCache.findTaskStatusesBySlug(slugs), users,
+                referenceCache.findLabelsById(labelIds));
+    }
+}
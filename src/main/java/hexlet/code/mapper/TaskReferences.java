@@ -0,0 +1,60 @@
+package hexlet.code.mapper;
+
+import hexlet.code.exception.LabelNotFoundException;
+import hexlet.code.exception.ReferencesNotFoundException;
+import hexlet.code.exception.TaskStatusNotFoundException;
+import hexlet.code.exception.UserNotFoundException;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record TaskReferences(Map<String, TaskStatus> statuses, Map<Long, User> users, Map<Long, Label> labels) {
+
+    public List<String> findMissing(String status, boolean statusRequired, Long assigneeId, Set<Long> labelIds) {
+        List<String> missing = new ArrayList<>();
+        if (status == null ? statusRequired : !statuses.containsKey(status)) {
+            missing.add(new TaskStatusNotFoundException(status).getMessage());
+        }
+        if (assigneeId != null && !users.containsKey(assigneeId)) {
+            missing.add(new UserNotFoundException(assigneeId).getMessage());
+        }
+        if (labelIds != null) {
+            for (Long labelId : labelIds) {
+                if (labelId == null || !labels.containsKey(labelId)) {
+                    missing.add(new LabelNotFoundException(labelId).getMessage());
+                }
+            }
+        }
+        return missing;
+    }
+
+    public void requireAll(String status, boolean statusRequired, Long assigneeId, Set<Long> labelIds) {
+        List<String> missing = findMissing(status, statusRequired, assigneeId, labelIds);
+        if (!missing.isEmpty()) {
+            throw new ReferencesNotFoundException(missing);
+        }
+    }
+
+    public TaskStatus status(String slug) {
+        return slug == null ? null : statuses.get(slug);
+    }
+
+    public User user(Long id) {
+        return id == null ? null : users.get(id);
+    }
+
+    public Set<Label> labels(Set<Long> ids) {
+        if (ids == null) {
+            return null;
+        }
+        return ids.stream()
+                .map(labels::get)
+                .collect(Collectors.toSet());
+    }
+}
@@ -4,6 +4,7 @@ import hexlet.code.dto.TaskStatusCreateDTO;
 import hexlet.code.dto.TaskStatusDTO;
 import hexlet.code.dto.TaskStatusUpdateDTO;
 import hexlet.code.model.TaskStatus;
+import hexlet.code.patch.MergePatch;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -33,4 +34,13 @@ public class TaskStatusMapper {
             taskStatus.setSlug(taskStatusUpdateDTO.getSlug());
         }
     }
+
+    public void patch(MergePatch<TaskStatusUpdateDTO> patch, TaskStatus taskStatus) {
+        if (patch.has("name")) {
+            taskStatus.setName(patch.required("name", patch.values().getName()));
+        }
+        if (patch.has("slug")) {
+            taskStatus.setSlug(patch.required("slug", patch.values().getSlug()));
+        }
+    }
 }
@@ -4,6 +4,7 @@ import hexlet.code.dto.UserCreateDTO;
 import hexlet.code.dto.UserDTO;
 import hexlet.code.dto.UserUpdateDTO;
 import hexlet.code.model.User;
+import hexlet.code.patch.MergePatch;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -42,4 +43,20 @@ public class UserMapper {
             user.setPassword(userUpdateDTO.getPassword());
         }
     }
+
+    public void patch(MergePatch<UserUpdateDTO> patch, User user) {
+        UserUpdateDTO values = patch.values();
+        if (patch.has("email")) {
+            user.setEmail(patch.required("email", values.getEmail()));
+        }
+        if (patch.has("firstName")) {
+            user.setFirstName(values.getFirstName());
+        }
+        if (patch.has("lastName")) {
+            user.setLastName(values.getLastName());
+        }
+        if (patch.has("password")) {
+            user.setPassword(patch.required("password", values.getPassword()));
+        }
+    }
 }
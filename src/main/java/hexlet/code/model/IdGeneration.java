@@ -0,0 +1,9 @@
+package hexlet.code.model;
+
+public final class IdGeneration {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {
+    }
+}
@@ -1,23 +1,34 @@
 package hexlet.code.model;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.Version;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.JoinTable;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.validation.constraints.Size;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import hexlet.code.event.TaskEntityListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -25,6 +36,15 @@ import java.util.Set;
 
 @Entity
 @Table(name = "tasks")
+@EntityListeners(TaskEntityListener.class)
+@DynamicUpdate
+@NamedEntityGraph(
+    name = Task.WITH_STATUS_AND_ASSIGNEE,
+    attributeNodes = {
+        @NamedAttributeNode("taskStatus"),
+        @NamedAttributeNode("assignee")
+    }
+)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -32,24 +52,37 @@ import java.util.Set;
 @ToString
 public class Task {
 
+    public static final String WITH_STATUS_AND_ASSIGNEE = "Task.withStatusAndAssignee";
+    public static final long POSITION_GAP = 65536;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Size(min = 1)
     private String title;
 
     private Integer index;
 
+    private Long position;
+
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
+    @ToString.Exclude
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_status_id")
+    @ToString.Exclude
     private TaskStatus taskStatus;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
+    @ToString.Exclude
     private User assignee;
 
     @ManyToMany
@@ -58,10 +91,33 @@ public class Task {
         joinColumns = @JoinColumn(name = "task_id"),
         inverseJoinColumns = @JoinColumn(name = "label_id")
     )
+    @BatchSize(size = 500)
     @JsonIgnore
     @ToString.Exclude
     private Set<Label> labels = new HashSet<>();
 
     @CreationTimestamp
     private Instant createdAt;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
+
+    @Column(insertable = false, updatable = false)
+    private Long changeSeq;
+
+    public void setIndex(Integer index) {
+        this.index = index;
+        if (index != null && position == null) {
+            this.position = positionOf(index);
+        }
+    }
+
+    public void reorder(Integer index) {
+        this.index = index;
+        this.position = positionOf(index);
+    }
+
+    public static Long positionOf(Integer index) {
+        return index == null ? null : index * POSITION_GAP;
+    }
 }
@@ -0,0 +1,43 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "task_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_tombstones_seq")
+    @SequenceGenerator(name = "task_tombstones_seq", sequenceName = "task_tombstones_seq",
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
+    private Long id;
+
+    private Long taskId;
+
+    @Column(insertable = false, updatable = false)
+    private Long changeSeq;
+
+    @CreationTimestamp
+    private Instant deletedAt;
+
+    public TaskTombstone(Long taskId) {
+        this.taskId = taskId;
+    }
+}
@@ -0,0 +1,101 @@
+package hexlet.code.ordering;
+
+import hexlet.code.model.Task;
+import hexlet.code.pagination.BoardCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskRebalancer {
+
+    private static final String UPDATE_POSITION = "update tasks set position = ? where id = ? and task_status_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    public void lockColumns(Long... statusIds) {
+        Arrays.stream(statusIds)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .forEach(statusId -> jdbcTemplate.queryForList(
+                        "select id from task_statuses where id = ? for update", Long.class, statusId));
+    }
+
+    public void materializeTail(Long statusId) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select id from tasks where task_status_id = ? and position is null order by id", Long.class, statusId);
+        if (ids.isEmpty()) {
+            return;
+        }
+        Long last = jdbcTemplate.queryForObject(
+                "select max(position) from tasks where task_status_id = ?", Long.class, statusId);
+        assignPositions(statusId, ids, last == null ? 0 : last);
+    }
+
+    public void rebalance(Long statusId) {
+        lockColumns(statusId);
+        List<Long> ids = jdbcTemplate.queryForList("select id from tasks where task_status_id = ?"
+                + " order by coalesce(position, " + BoardCursor.LAST_POSITION + "), id", Long.class, statusId);
+        assignPositions(statusId, ids, 0);
+    }
+
+    public void rebalanceLater(Long statusId) {
+        if (!scheduled.add(statusId)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            startRebalance(statusId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                startRebalance(statusId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    scheduled.remove(statusId);
+                }
+            }
+        });
+    }
+
+    private void startRebalance(Long statusId) {
+        Thread.ofVirtual().name("task-rebalance-" + statusId).start(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(transaction -> rebalance(statusId));
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebalance task positions of status {}: {}", statusId, e.getMessage());
+            } finally {
+                scheduled.remove(statusId);
+            }
+        });
+    }
+
+    private void assignPositions(Long statusId, List<Long> ids, long start) {
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            args.add(new Object[] {start + (i + 1) * Task.POSITION_GAP, ids.get(i), statusId});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_POSITION, args);
+    }
+}
@@ -0,0 +1,42 @@
+package hexlet.code.pagination;
+
+import hexlet.code.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+public class BoardCursor {
+
+    public static final long LAST_POSITION = Long.MAX_VALUE;
+
+    private static final String SEPARATOR = "_";
+
+    private final long position;
+    private final Long id;
+
+    public static BoardCursor of(Long position, Long id) {
+        return new BoardCursor(position == null ? LAST_POSITION : position, id);
+    }
+
+    public static BoardCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new BoardCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException(value);
+        }
+    }
+
+    public String encode() {
+        String raw = position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,34 @@
+package hexlet.code.pagination;
+
+import hexlet.code.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+public class ChangeToken {
+
+    public static final ChangeToken INITIAL = new ChangeToken(0);
+
+    private final long changeSeq;
+
+    public static ChangeToken decode(String value) {
+        if (value == null) {
+            return INITIAL;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            return new ChangeToken(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(value);
+        }
+    }
+
+    public String encode() {
+        String raw = Long.toString(changeSeq);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
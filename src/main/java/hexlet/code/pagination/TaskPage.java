@@ -0,0 +1,15 @@
+package hexlet.code.pagination;
+
+import hexlet.code.dto.TaskDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TaskPage {
+    private final List<TaskDTO> content;
+    private final long total;
+    private final String nextCursor;
+}
@@ -0,0 +1,21 @@
+package hexlet.code.patch;
+
+import hexlet.code.exception.InvalidPatchException;
+
+import java.util.Set;
+
+public record MergePatch<T>(T values, Set<String> fields) {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    public boolean has(String field) {
+        return fields.contains(field);
+    }
+
+    public <V> V required(String field, V value) {
+        if (value == null) {
+            throw new InvalidPatchException(field + " cannot be removed");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,46 @@
+package hexlet.code.patch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.exception.InvalidPatchException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@AllArgsConstructor
+public class MergePatchReader {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public <T> MergePatch<T> read(JsonNode patch, Class<T> type) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException("Merge patch must be a JSON object");
+        }
+        T values;
+        try {
+            values = objectMapper.treeToValue(patch, type);
+        } catch (JsonProcessingException e) {
+            throw new InvalidPatchException(e.getOriginalMessage());
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(values);
+        if (!violations.isEmpty()) {
+            throw new InvalidPatchException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        Set<String> fields = new HashSet<>();
+        patch.fieldNames().forEachRemaining(fields::add);
+        return new MergePatch<>(values, fields);
+    }
+}
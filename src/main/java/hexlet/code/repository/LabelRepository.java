@@ -1,12 +1,23 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.Label;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface LabelRepository extends JpaRepository<Label, Long> {
-    Optional<Label> findByName(String name);
+public interface LabelRepository extends JpaRepository<Label, Long>, LabelRepositoryCustom {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Label> findAll();
+
+    @Query("select l.version from Label l where l.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
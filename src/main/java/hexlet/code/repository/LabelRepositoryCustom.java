@@ -0,0 +1,9 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.Label;
+
+import java.util.Optional;
+
+public interface LabelRepositoryCustom {
+    Optional<Label> findByName(String name);
+}
@@ -0,0 +1,23 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.Label;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public class LabelRepositoryCustomImpl implements LabelRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Label> findByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Label.class)
+                .loadOptional(name);
+    }
+}
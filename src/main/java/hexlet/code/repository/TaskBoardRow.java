@@ -0,0 +1,14 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.TaskDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskBoardRow {
+    private final Long statusId;
+    private final long columnTotal;
+    private final long position;
+    private final TaskDTO task;
+}
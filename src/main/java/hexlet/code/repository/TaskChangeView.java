@@ -0,0 +1,6 @@
+package hexlet.code.repository;
+
+public interface TaskChangeView {
+    Long getId();
+    Long getChangeSeq();
+}
@@ -0,0 +1,6 @@
+package hexlet.code.repository;
+
+public interface TaskCountView {
+    Object getGroupKey();
+    Long getTotal();
+}
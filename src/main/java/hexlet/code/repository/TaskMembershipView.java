@@ -0,0 +1,7 @@
+package hexlet.code.repository;
+
+public interface TaskMembershipView {
+    Long getId();
+    Long getStatusId();
+    Long getAssigneeId();
+}
@@ -0,0 +1,6 @@
+package hexlet.code.repository;
+
+public interface TaskPositionView {
+    Long getId();
+    Long getPosition();
+}
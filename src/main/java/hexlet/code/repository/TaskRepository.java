@@ -1,10 +1,67 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.Task;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
+
+    @Override
+    @EntityGraph(Task.WITH_STATUS_AND_ASSIGNEE)
+    Optional<Task> findById(Long id);
+
+    @Override
+    @EntityGraph(Task.WITH_STATUS_AND_ASSIGNEE)
+    List<Task> findAll();
+
+    List<TaskTextView> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select t.id as id, s.id as statusId, a.id as assigneeId from Task t"
+            + " left join t.taskStatus s left join t.assignee a where t.id > :id order by t.id")
+    List<TaskMembershipView> findMembershipsAfter(@Param("id") Long id, Limit limit);
+
+    @Query("select s.slug as groupKey, count(t) as total from Task t join t.taskStatus s group by s.slug")
+    List<TaskCountView> countByStatus();
+
+    @Query("select a.id as groupKey, count(t) as total from Task t join t.assignee a group by a.id")
+    List<TaskCountView> countByAssignee();
+
+    @Query("select l.id as groupKey, count(t) as total from Task t join t.labels l group by l.id")
+    List<TaskCountView> countByLabel();
+
+    @Query("select t.id as id, t.changeSeq as changeSeq from Task t"
+            + " where t.changeSeq > :since and t.updatedAt <= :horizon order by t.changeSeq")
+    List<TaskChangeView> findChangesAfter(@Param("since") Long since, @Param("horizon") Instant horizon, Limit limit);
+
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select t.id as id, t.position as position from Task t"
+            + " where t.id = :id and t.taskStatus.id = :statusId")
+    Optional<TaskPositionView> findPosition(@Param("id") Long id, @Param("statusId") Long statusId);
+
+    @Query("select t.id as id, t.position as position from Task t"
+            + " where t.taskStatus.id = :statusId and t.id <> :excludedId"
+            + " and (t.position > :position or t.position = :position and t.id > :id)"
+            + " order by t.position, t.id")
+    List<TaskPositionView> findPositionsAfter(@Param("statusId") Long statusId, @Param("excludedId") Long excludedId,
+                                              @Param("position") long position, @Param("id") long id, Limit limit);
+
+    @Query("select t.id as id, t.position as position from Task t"
+            + " where t.taskStatus.id = :statusId and t.id <> :excludedId"
+            + " and (t.position < :position or t.position = :position and t.id < :id)"
+            + " order by t.position desc, t.id desc")
+    List<TaskPositionView> findPositionsBefore(@Param("statusId") Long statusId, @Param("excludedId") Long excludedId,
+                                               @Param("position") long position, @Param("id") long id, Limit limit);
 }
@@ -0,0 +1,26 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.model.Task;
+import hexlet.code.pagination.BoardCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public interface TaskRepositoryCustom {
+    List<TaskSliceRow> findSlice(Specification<Task> spec, Sort sort, long offset, int limit);
+    List<Long> findIds(Specification<Task> spec);
+    List<TaskDTO> findDtoSlice(Specification<Task> spec, Sort sort, long offset, int limit);
+    List<TaskDTO> findDtoSlice(Specification<Task> spec, Sort sort, long offset, int limit, Set<String> fields);
+    void streamDtos(Specification<Task> spec, Sort sort, Set<String> fields, int batchSize,
+                    Consumer<List<TaskDTO>> consumer);
+    Map<Long, Set<Long>> findLabelIds(Collection<Long> taskIds);
+    Map<Long, String> findContents(Collection<Long> taskIds);
+    List<Long> findColumnPositions(Long statusId, Long excludedId, long offset, int limit);
+    List<TaskBoardRow> findBoardRows(Long statusId, BoardCursor after, int perColumn);
+}
@@ -0,0 +1,311 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskFields;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.pagination.BoardCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final int ID_LOOKUP_CHUNK = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskSliceRow> findSlice(Specification<Task> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        applySpecification(spec, root, query, cb);
+        query.multiselect(root, root.get("content")).orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(row -> new TaskSliceRow(row.get(0, Task.class), row.get(1, String.class)))
+                .toList();
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        applySpecification(spec, root, query, cb);
+        query.select(root.get("id"));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<TaskDTO> findDtoSlice(Specification<Task> spec, Sort sort, long offset, int limit) {
+        return findDtoSlice(spec, sort, offset, limit, TaskFields.ALL);
+    }
+
+    @Override
+    public List<TaskDTO> findDtoSlice(Specification<Task> spec, Sort sort, long offset, int limit,
+                                      Set<String> fields) {
+        List<Tuple> rows = entityManager.createQuery(createDtoQuery(spec, sort, fields))
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+
+        List<TaskDTO> tasks = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            tasks.add(toDto(row, fields));
+        }
+        fillLabelIds(tasks, fields);
+        return tasks;
+    }
+
+    @Override
+    public void streamDtos(Specification<Task> spec, Sort sort, Set<String> fields, int batchSize,
+                           Consumer<List<TaskDTO>> consumer) {
+        List<TaskDTO> batch = new ArrayList<>(batchSize);
+        try (Stream<Tuple> rows = entityManager.createQuery(createDtoQuery(spec, sort, fields))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, batchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<Tuple> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                batch.add(toDto(iterator.next(), fields));
+                if (batch.size() >= batchSize) {
+                    emit(batch, fields, consumer);
+                }
+            }
+        }
+        emit(batch, fields, consumer);
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findLabelIds(Collection<Long> taskIds) {
+        Map<Long, Set<Long>> labelIds = new HashMap<>();
+        List<Long> ids = List.copyOf(taskIds);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_LOOKUP_CHUNK, ids.size()));
+            CriteriaQuery<Tuple> query = cb.createTupleQuery();
+            Root<Task> root = query.from(Task.class);
+            Join<Task, Label> labels = root.join("labels");
+            query.multiselect(root.get("id"), labels.get("id"))
+                    .where(root.get("id").in(chunk));
+
+            for (Tuple row : entityManager.createQuery(query).getResultList()) {
+                labelIds.computeIfAbsent(row.get(0, Long.class), id -> new HashSet<>())
+                        .add(row.get(1, Long.class));
+            }
+        }
+        return labelIds;
+    }
+
+    @Override
+    public Map<Long, String> findContents(Collection<Long> taskIds) {
+        Map<Long, String> contents = new HashMap<>();
+        List<Long> ids = List.copyOf(taskIds);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_LOOKUP_CHUNK, ids.size()));
+            CriteriaQuery<Tuple> query = cb.createTupleQuery();
+            Root<Task> root = query.from(Task.class);
+            query.multiselect(root.get("id"), root.get("content"))
+                    .where(root.get("id").in(chunk));
+
+            for (Tuple row : entityManager.createQuery(query).getResultList()) {
+                contents.put(row.get(0, Long.class), row.get(1, String.class));
+            }
+        }
+        return contents;
+    }
+
+    @Override
+    public List<Long> findColumnPositions(Long statusId, Long excludedId, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.<Long>get("position"))
+                .where(cb.equal(root.get("taskStatus").get("id"), statusId),
+                        cb.notEqual(root.get("id"), excludedId))
+                .orderBy(cb.asc(root.get("position")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskBoardRow> findBoardRows(Long statusId, BoardCursor after, int perColumn) {
+        StringBuilder sql = new StringBuilder()
+                .append("select id, title, index, content, created_at, assignee_id, task_status_id, slug,")
+                .append(" column_total, board_position")
+                .append(" from (select r.*, row_number() over (")
+                .append("partition by r.task_status_id order by r.board_position, r.id) as rn")
+                .append(" from (select t.id, t.title, t.index, t.content, t.created_at, t.assignee_id,")
+                .append(" t.task_status_id, s.slug, coalesce(t.position, ").append(BoardCursor.LAST_POSITION)
+                .append(") as board_position, count(*) over (partition by t.task_status_id) as column_total")
+                .append(" from tasks t join task_statuses s on s.id = t.task_status_id");
+        if (statusId != null) {
+            sql.append(" where t.task_status_id = :statusId");
+        }
+        sql.append(") r");
+        if (after != null) {
+            sql.append(" where r.board_position > :position or (r.board_position = :position and r.id > :id)");
+        }
+        sql.append(") ranked where rn <= :perColumn order by task_status_id, rn");
+
+        NativeQuery<?> query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("index", StandardBasicTypes.INTEGER)
+                .addScalar("content", StandardBasicTypes.STRING)
+                .addScalar("created_at", StandardBasicTypes.INSTANT)
+                .addScalar("assignee_id", StandardBasicTypes.LONG)
+                .addScalar("task_status_id", StandardBasicTypes.LONG)
+                .addScalar("slug", StandardBasicTypes.STRING)
+                .addScalar("column_total", StandardBasicTypes.LONG)
+                .addScalar("board_position", StandardBasicTypes.LONG)
+                .setParameter("perColumn", perColumn);
+        if (statusId != null) {
+            query.setParameter("statusId", statusId);
+        }
+        if (after != null) {
+            query.setParameter("position", after.getPosition())
+                    .setParameter("id", after.getId());
+        }
+
+        List<TaskBoardRow> rows = new ArrayList<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            TaskDTO taskDTO = new TaskDTO();
+            taskDTO.setId((Long) row[0]);
+            taskDTO.setTitle((String) row[1]);
+            taskDTO.setIndex((Integer) row[2]);
+            taskDTO.setContent((String) row[3]);
+            taskDTO.setCreatedAt((Instant) row[4]);
+            taskDTO.setAssigneeId((Long) row[5]);
+            taskDTO.setStatus((String) row[7]);
+            rows.add(new TaskBoardRow((Long) row[6], (Long) row[8], (Long) row[9], taskDTO));
+        }
+
+        Map<Long, Set<Long>> labelIds = findLabelIds(rows.stream().map(row -> row.getTask().getId()).toList());
+        rows.forEach(row -> row.getTask().setTaskLabelIds(labelIds.getOrDefault(row.getTask().getId(),
+                new HashSet<>())));
+        return rows;
+    }
+
+    private void emit(List<TaskDTO> batch, Set<String> fields, Consumer<List<TaskDTO>> consumer) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        fillLabelIds(batch, fields);
+        consumer.accept(batch);
+        batch.clear();
+        entityManager.clear();
+    }
+
+    private CriteriaQuery<Tuple> createDtoQuery(Specification<Task> spec, Sort sort, Set<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias(TaskFields.ID));
+        selections.add(root.get("createdAt").alias(TaskFields.CREATED_AT));
+        if (fields.contains(TaskFields.INDEX)) {
+            selections.add(root.get("index").alias(TaskFields.INDEX));
+        }
+        if (fields.contains(TaskFields.TITLE)) {
+            selections.add(root.get("title").alias(TaskFields.TITLE));
+        }
+        if (fields.contains(TaskFields.CONTENT)) {
+            selections.add(root.get("content").alias(TaskFields.CONTENT));
+        }
+        if (fields.contains(TaskFields.STATUS)) {
+            Join<Task, TaskStatus> status = root.join("taskStatus", JoinType.LEFT);
+            selections.add(status.get("slug").alias(TaskFields.STATUS));
+        }
+        if (fields.contains(TaskFields.ASSIGNEE_ID)) {
+            Join<Task, User> assignee = root.join("assignee", JoinType.LEFT);
+            selections.add(assignee.get("id").alias(TaskFields.ASSIGNEE_ID));
+        }
+        applySpecification(spec, root, query, cb);
+        query.multiselect(selections).orderBy(QueryUtils.toOrders(sort, root, cb));
+        return query;
+    }
+
+    private static TaskDTO toDto(Tuple row, Set<String> fields) {
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setId(row.get(TaskFields.ID, Long.class));
+        taskDTO.setCreatedAt(row.get(TaskFields.CREATED_AT, Instant.class));
+        if (fields.contains(TaskFields.INDEX)) {
+            taskDTO.setIndex(row.get(TaskFields.INDEX, Integer.class));
+        }
+        if (fields.contains(TaskFields.TITLE)) {
+            taskDTO.setTitle(row.get(TaskFields.TITLE, String.class));
+        }
+        if (fields.contains(TaskFields.CONTENT)) {
+            taskDTO.setContent(row.get(TaskFields.CONTENT, String.class));
+        }
+        if (fields.contains(TaskFields.STATUS)) {
+            taskDTO.setStatus(row.get(TaskFields.STATUS, String.class));
+        }
+        if (fields.contains(TaskFields.ASSIGNEE_ID)) {
+            taskDTO.setAssigneeId(row.get(TaskFields.ASSIGNEE_ID, Long.class));
+        }
+        return taskDTO;
+    }
+
+    private void fillLabelIds(List<TaskDTO> tasks, Set<String> fields) {
+        if (fields.contains(TaskFields.LABEL_IDS)) {
+            Map<Long, Set<Long>> labelIds = findLabelIds(tasks.stream().map(TaskDTO::getId).toList());
+            tasks.forEach(taskDTO -> taskDTO.setTaskLabelIds(labelIds.getOrDefault(taskDTO.getId(),
+                    new HashSet<>())));
+        }
+    }
+
+    private void applySpecification(Specification<Task> spec, Root<Task> root, CriteriaQuery<?> query,
+                                    CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskSliceRow {
+    private final Task task;
+    private final String content;
+}
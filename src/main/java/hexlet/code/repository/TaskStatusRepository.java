@@ -1,13 +1,27 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
-    Optional<TaskStatus> findBySlug(String slug);
+public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long>, TaskStatusRepositoryCustom {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<TaskStatus> findAll();
+
+    List<TaskStatus> findBySlugIn(Collection<String> slugs);
     Optional<TaskStatus> findByName(String name);
+
+    @Query("select s.version from TaskStatus s where s.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
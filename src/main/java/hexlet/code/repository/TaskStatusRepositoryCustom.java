@@ -0,0 +1,9 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.TaskStatus;
+
+import java.util.Optional;
+
+public interface TaskStatusRepositoryCustom {
+    Optional<TaskStatus> findBySlug(String slug);
+}
@@ -0,0 +1,23 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public class TaskStatusRepositoryCustomImpl implements TaskStatusRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<TaskStatus> findBySlug(String slug) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(TaskStatus.class)
+                .loadOptional(slug);
+    }
+}
@@ -0,0 +1,7 @@
+package hexlet.code.repository;
+
+public interface TaskTextView {
+    Long getId();
+    String getTitle();
+    String getContent();
+}
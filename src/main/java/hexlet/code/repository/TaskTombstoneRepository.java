@@ -0,0 +1,16 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+    List<TaskTombstone> findByChangeSeqGreaterThanAndDeletedAtLessThanEqualOrderByChangeSeqAsc(Long changeSeq,
+                                                                                              Instant deletedAt,
+                                                                                              Limit limit);
+}
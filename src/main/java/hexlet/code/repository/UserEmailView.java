@@ -0,0 +1,6 @@
+package hexlet.code.repository;
+
+public interface UserEmailView {
+    Long getId();
+    String getEmail();
+}
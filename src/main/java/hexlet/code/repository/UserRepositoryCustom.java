@@ -0,0 +1,9 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByEmail(String email);
+}
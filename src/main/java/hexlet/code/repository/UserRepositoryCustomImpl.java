@@ -0,0 +1,30 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        Optional<User> user = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+        if (user.isPresent()) {
+            return user;
+        }
+        return entityManager.createQuery("select u from User u where lower(u.email) = lower(:email)", User.class)
+                .setParameter("email", email)
+                .getResultStream()
+                .findFirst();
+    }
+}
@@ -0,0 +1,250 @@
+package hexlet.code.search;
+
+import hexlet.code.cache.ReferenceCache;
+import hexlet.code.event.ChangeType;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.event.TasksImportedEvent;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskMembershipView;
+import hexlet.code.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskFilterIndex {
+
+    private static final int REBUILD_CHUNK = 1000;
+
+    private final TaskRepository taskRepository;
+    private final ReferenceCache referenceCache;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Roaring64NavigableMap> byStatus = new HashMap<>();
+    private final Map<Long, Roaring64NavigableMap> byAssignee = new HashMap<>();
+    private final Map<Long, Roaring64NavigableMap> byLabel = new HashMap<>();
+    private final Map<Long, Membership> memberships = new HashMap<>();
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private volatile boolean warm;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread.ofVirtual().name("task-filter-index").start(this::rebuild);
+    }
+
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            warm = false;
+            rebuilding = true;
+            byStatus.clear();
+            byAssignee.clear();
+            byLabel.clear();
+            memberships.clear();
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long lastId = 0;
+            List<TaskMembershipView> chunk;
+            do {
+                chunk = taskRepository.findMembershipsAfter(lastId, Limit.of(REBUILD_CHUNK));
+                Map<Long, Set<Long>> labelIds = taskRepository.findLabelIds(chunk.stream()
+                        .map(TaskMembershipView::getId)
+                        .toList());
+                lock.writeLock().lock();
+                try {
+                    for (TaskMembershipView task : chunk) {
+                        if (!changedDuringRebuild.contains(task.getId())) {
+                            Set<Long> taskLabelIds = labelIds.getOrDefault(task.getId(), Set.of());
+                            put(task.getId(), new Membership(task.getStatusId(), task.getAssigneeId(), taskLabelIds));
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK);
+            int size = finishRebuild(true);
+            log.info("Task filter index built with {} tasks", size);
+        } catch (RuntimeException e) {
+            finishRebuild(false);
+            log.warn("Task filter index rebuild failed, SQL filters stay in use: {}", e.getMessage(), e);
+        }
+    }
+
+    @EventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        rebuildInBackground();
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Task task = event.getEntity();
+        Membership membership = null;
+        if (event.getType() != ChangeType.DELETED) {
+            Long statusId = task.getTaskStatus() == null ? null : task.getTaskStatus().getId();
+            Long assigneeId = task.getAssignee() == null ? null : task.getAssignee().getId();
+            Set<Long> labelIds = null;
+            if (task.getLabels() != null && Hibernate.isInitialized(task.getLabels())) {
+                labelIds = task.getLabels().stream()
+                        .map(Label::getId)
+                        .collect(Collectors.toSet());
+            }
+            membership = new Membership(statusId, assigneeId, labelIds);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(event.getId());
+            }
+            if (membership == null) {
+                remove(event.getId());
+            } else {
+                put(event.getId(), membership);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Roaring64NavigableMap> filter(String status, Long assigneeId, Collection<Long> labelIds,
+                                                  boolean matchAllLabels) {
+        boolean hasLabels = labelIds != null && !labelIds.isEmpty();
+        if (!warm || status == null && assigneeId == null && !hasLabels) {
+            return Optional.empty();
+        }
+        Long statusId = status == null ? null : referenceCache.findTaskStatusId(status).orElse(null);
+
+        lock.readLock().lock();
+        try {
+            Roaring64NavigableMap result = null;
+            if (status != null) {
+                result = intersect(result, statusId == null ? null : byStatus.get(statusId));
+            }
+            if (assigneeId != null) {
+                result = intersect(result, byAssignee.get(assigneeId));
+            }
+            if (hasLabels) {
+                Roaring64NavigableMap labelled = matchAllLabels ? null : new Roaring64NavigableMap();
+                for (Long labelId : labelIds) {
+                    Roaring64NavigableMap bitmap = byLabel.get(labelId);
+                    if (matchAllLabels) {
+                        labelled = intersect(labelled, bitmap);
+                    } else if (bitmap != null) {
+                        labelled.or(bitmap);
+                    }
+                }
+                result = intersect(result, labelled);
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int finishRebuild(boolean succeeded) {
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+            warm = succeeded;
+            return memberships.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Long id, Membership membership) {
+        Membership previous = remove(id);
+        if (membership.labelIds() == null) {
+            Set<Long> previousLabelIds = previous == null ? Set.of() : previous.labelIds();
+            membership = new Membership(membership.statusId(), membership.assigneeId(), previousLabelIds);
+        }
+
+        add(byStatus, membership.statusId(), id);
+        add(byAssignee, membership.assigneeId(), id);
+        for (Long labelId : membership.labelIds()) {
+            add(byLabel, labelId, id);
+        }
+        memberships.put(id, membership);
+    }
+
+    private Membership remove(Long id) {
+        Membership membership = memberships.remove(id);
+        if (membership != null) {
+            discard(byStatus, membership.statusId(), id);
+            discard(byAssignee, membership.assigneeId(), id);
+            for (Long labelId : membership.labelIds()) {
+                discard(byLabel, labelId, id);
+            }
+        }
+        return membership;
+    }
+
+    private static void add(Map<Long, Roaring64NavigableMap> bitmaps, Long key, Long id) {
+        if (key != null) {
+            bitmaps.computeIfAbsent(key, k -> new Roaring64NavigableMap()).addLong(id);
+        }
+    }
+
+    private static void discard(Map<Long, Roaring64NavigableMap> bitmaps, Long key, Long id) {
+        if (key == null) {
+            return;
+        }
+        Roaring64NavigableMap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.removeLong(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static Roaring64NavigableMap intersect(Roaring64NavigableMap result, Roaring64NavigableMap bitmap) {
+        if (bitmap == null) {
+            return new Roaring64NavigableMap();
+        }
+        if (result == null) {
+            Roaring64NavigableMap copy = new Roaring64NavigableMap();
+            copy.or(bitmap);
+            return copy;
+        }
+        result.and(bitmap);
+        return result;
+    }
+
+    private record Membership(Long statusId, Long assigneeId, Set<Long> labelIds) {
+    }
+}
@@ -0,0 +1,300 @@
+package hexlet.code.search;
+
+import hexlet.code.config.TaskProperties;
+import hexlet.code.event.ChangeType;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.event.TasksImportedEvent;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskTextView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int REBUILD_CHUNK = 1000;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private final TaskRepository taskRepository;
+    private final TaskProperties taskProperties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedTask> documents = new HashMap<>();
+    private final Map<String, Set<Long>> titleGrams = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private volatile boolean warm;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread.ofVirtual().name("task-search-index").start(this::rebuild);
+    }
+
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            warm = false;
+            rebuilding = true;
+            documents.clear();
+            titleGrams.clear();
+            postings.clear();
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long lastId = 0;
+            List<TaskTextView> chunk;
+            do {
+                chunk = taskRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_CHUNK));
+                lock.writeLock().lock();
+                try {
+                    for (TaskTextView task : chunk) {
+                        if (!changedDuringRebuild.contains(task.getId())) {
+                            index(task.getId(), task.getTitle(), task.getContent(), true);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK);
+            int size = finishRebuild(true);
+            log.info("Task search index built with {} documents", size);
+        } catch (RuntimeException e) {
+            finishRebuild(false);
+            log.warn("Task search index rebuild failed, SQL search stays in use: {}", e.getMessage(), e);
+        }
+    }
+
+    @EventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        rebuildInBackground();
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Task task = event.getEntity();
+        boolean deleted = event.getType() == ChangeType.DELETED;
+        String title = deleted ? null : task.getTitle();
+        boolean contentLoaded = !deleted && Hibernate.isPropertyInitialized(task, "content");
+        String content = contentLoaded ? task.getContent() : null;
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(event.getId());
+            }
+            if (deleted) {
+                unindex(event.getId());
+            } else {
+                index(event.getId(), title, content, contentLoaded);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Set<Long>> findByTitle(String titleCont) {
+        if (!warm) {
+            return Optional.empty();
+        }
+        String needle = titleCont.toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidates = needle.length() < GRAM_SIZE ? documents.keySet() : candidatesFor(needle);
+            Set<Long> ids = new HashSet<>();
+            for (Long id : candidates) {
+                IndexedTask document = documents.get(id);
+                if (document != null && document.title().contains(needle)) {
+                    ids.add(id);
+                }
+            }
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<List<Long>> search(String query) {
+        if (!warm) {
+            return Optional.empty();
+        }
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Long, Double> termScores = score(terms.get(i), i == terms.size() - 1);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            return Optional.of(scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(taskProperties.getMaxSearchResults())
+                    .map(Map.Entry::getKey)
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int finishRebuild(boolean succeeded) {
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+            warm = succeeded;
+            return documents.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(String term, boolean prefix) {
+        Map<String, Map<Long, Integer>> matches;
+        if (prefix) {
+            matches = postings.subMap(term, true, term + Character.MAX_VALUE, true);
+        } else {
+            Map<Long, Integer> posting = postings.get(term);
+            matches = posting == null ? Map.of() : Map.of(term, posting);
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map<Long, Integer> posting : matches.values()) {
+            double idf = Math.log(1 + (double) documents.size() / posting.size());
+            posting.forEach((id, weight) -> scores.merge(id, weight * idf, Double::sum));
+        }
+        return scores;
+    }
+
+    private Collection<Long> candidatesFor(String needle) {
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            Set<Long> ids = titleGrams.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            sets.add(ids);
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(sets.get(0));
+        for (int i = 1; i < sets.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(sets.get(i));
+        }
+        return candidates;
+    }
+
+    private void index(Long id, String title, String content, boolean contentLoaded) {
+        IndexedTask previous = unindex(id);
+        List<String> contentTokens = contentLoaded || previous == null ? tokenize(content) : previous.contentTokens();
+
+        String normalizedTitle = title == null ? "" : title.toLowerCase(Locale.ROOT);
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(title).forEach(token -> weights.merge(token, TITLE_WEIGHT, Integer::sum));
+        contentTokens.forEach(token -> weights.merge(token, 1, Integer::sum));
+
+        weights.forEach((token, weight) -> postings.computeIfAbsent(token, key -> new HashMap<>()).put(id, weight));
+        for (String gram : grams(normalizedTitle)) {
+            titleGrams.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+        documents.put(id, new IndexedTask(normalizedTitle, Set.copyOf(weights.keySet()),
+                List.copyOf(contentTokens)));
+    }
+
+    private IndexedTask unindex(Long id) {
+        IndexedTask document = documents.remove(id);
+        if (document == null) {
+            return null;
+        }
+        for (String token : document.tokens()) {
+            Map<Long, Integer> posting = postings.get(token);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        for (String gram : grams(document.title())) {
+            Set<Long> ids = titleGrams.get(gram);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                titleGrams.remove(gram);
+            }
+        }
+        return document;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record IndexedTask(String title, Set<String> tokens, List<String> contentTokens) {
+    }
+}
@@ -4,6 +4,7 @@ import hexlet.code.dto.LabelCreateDTO;
 import hexlet.code.dto.LabelDTO;
 import hexlet.code.dto.LabelUpdateDTO;
 import hexlet.code.model.Label;
+import hexlet.code.patch.MergePatch;
 
 import java.util.List;
 
@@ -11,8 +12,10 @@ public interface LabelService {
     List<LabelDTO> getAll();
     LabelDTO create(LabelCreateDTO labelCreateDTO);
     LabelDTO findById(Long id);
+    long getVersion(Long id);
     Label findByIdEntity(Long id);
-    LabelDTO update(Long id, LabelUpdateDTO labelUpdateDTO);
-    void delete(Long id);
+    LabelDTO update(Long id, LabelUpdateDTO labelUpdateDTO, Long expectedVersion);
+    LabelDTO patch(Long id, MergePatch<LabelUpdateDTO> patch, Long expectedVersion);
+    void delete(Long id, Long expectedVersion);
     Label findByName(String name);
 }
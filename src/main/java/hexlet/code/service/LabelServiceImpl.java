@@ -1,16 +1,20 @@
 package hexlet.code.service;
 
+import hexlet.code.cache.ReferenceCache;
 import hexlet.code.dto.LabelCreateDTO;
 import hexlet.code.dto.LabelDTO;
 import hexlet.code.dto.LabelUpdateDTO;
+import hexlet.code.etag.IfMatch;
 import hexlet.code.exception.LabelNotFoundException;
 import hexlet.code.exception.LabelDeletionException;
 import hexlet.code.mapper.LabelMapper;
 import hexlet.code.model.Label;
+import hexlet.code.patch.MergePatch;
 import hexlet.code.repository.LabelRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -20,6 +24,7 @@ public class LabelServiceImpl implements LabelService {
 
     private final LabelRepository labelRepository;
     private final LabelMapper labelMapper;
+    private final ReferenceCache referenceCache;
 
     @Override
     public List<LabelDTO> getAll() {
@@ -43,25 +48,43 @@ public class LabelServiceImpl implements LabelService {
         return labelMapper.map(label);
     }
 
+    @Override
+    public long getVersion(Long id) {
+        return labelRepository.findVersionById(id)
+                .orElseThrow(() -> new LabelNotFoundException(id));
+    }
+
     @Override
     public Label findByIdEntity(Long id) {
-        return labelRepository.findById(id)
+        return referenceCache.findLabelById(id)
                 .orElseThrow(() -> new LabelNotFoundException(id));
     }
 
     @Override
-    public LabelDTO update(Long id, LabelUpdateDTO labelUpdateDTO) {
+    public LabelDTO update(Long id, LabelUpdateDTO labelUpdateDTO, Long expectedVersion) {
         Label label = labelRepository.findById(id)
                 .orElseThrow(() -> new LabelNotFoundException(id));
+        IfMatch.check(expectedVersion, label.getVersion(), "Label", id);
         labelMapper.update(labelUpdateDTO, label);
         label = labelRepository.save(label);
         return labelMapper.map(label);
     }
 
     @Override
-    public void delete(Long id) {
+    @Transactional
+    public LabelDTO patch(Long id, MergePatch<LabelUpdateDTO> patch, Long expectedVersion) {
+        Label label = labelRepository.findById(id)
+                .orElseThrow(() -> new LabelNotFoundException(id));
+        IfMatch.check(expectedVersion, label.getVersion(), "Label", id);
+        labelMapper.patch(patch, label);
+        return labelMapper.map(label);
+    }
+
+    @Override
+    public void delete(Long id, Long expectedVersion) {
         Label label = labelRepository.findById(id)
                 .orElseThrow(() -> new LabelNotFoundException(id));
+        IfMatch.check(expectedVersion, label.getVersion(), "Label", id);
         try {
             labelRepository.delete(label);
         } catch (DataIntegrityViolationException e) {
@@ -71,7 +94,7 @@ public class LabelServiceImpl implements LabelService {
 
     @Override
     public Label findByName(String name) {
-        return labelRepository.findByName(name)
+        return referenceCache.findLabelByName(name)
                 .orElseThrow(() -> new LabelNotFoundException(name));
     }
 }
@@ -0,0 +1,13 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.BulkItemResultDTO;
+import hexlet.code.dto.TaskBulkUpdateDTO;
+import hexlet.code.dto.TaskCreateDTO;
+
+import java.util.List;
+
+public interface TaskBulkService {
+    List<BulkItemResultDTO> createAll(List<TaskCreateDTO> tasks);
+    List<BulkItemResultDTO> updateAll(List<TaskBulkUpdateDTO> tasks);
+    List<BulkItemResultDTO> deleteAll(List<Long> ids);
+}
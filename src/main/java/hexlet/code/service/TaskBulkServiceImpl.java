@@ -0,0 +1,259 @@
+package hexlet.code.service;
+
+import hexlet.code.config.TaskProperties;
+import hexlet.code.dto.BulkItemResultDTO;
+import hexlet.code.dto.TaskBulkUpdateDTO;
+import hexlet.code.dto.TaskCreateDTO;
+import hexlet.code.exception.BulkLimitExceededException;
+import hexlet.code.exception.TaskNotFoundException;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.mapper.TaskReferenceResolver;
+import hexlet.code.mapper.TaskReferences;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskTombstone;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class TaskBulkServiceImpl implements TaskBulkService {
+
+    private static final String WRITE_CONFLICT = "conflicts with existing data";
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskMapper taskMapper;
+    private final TaskReferenceResolver taskReferenceResolver;
+    private final TaskProperties taskProperties;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BulkItemResultDTO> createAll(List<TaskCreateDTO> tasks) {
+        checkSize(tasks);
+        BulkItemResultDTO[] results = new BulkItemResultDTO[tasks.size()];
+        TaskReferences references = resolve(tasks.stream()
+                .filter(Objects::nonNull)
+                .map(task -> new ReferenceIds(task.getStatus(), task.getAssigneeId(), task.getTaskLabelIds())));
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskCreateDTO task = tasks.get(i);
+            String error = validate(task);
+            if (error != null) {
+                results[i] = failure(i, null, HttpStatus.BAD_REQUEST, error);
+                continue;
+            }
+            List<String> missing = references.findMissing(task.getStatus(), true, task.getAssigneeId(),
+                    task.getTaskLabelIds());
+            if (!missing.isEmpty()) {
+                results[i] = failure(i, null, HttpStatus.NOT_FOUND, String.join("; ", missing));
+                continue;
+            }
+            pending.add(i);
+        }
+
+        writeChunks(pending, results, index -> null, indexes -> {
+            List<Task> entities = indexes.stream()
+                    .map(index -> {
+                        TaskCreateDTO task = tasks.get(index);
+                        return taskMapper.map(task, references.status(task.getStatus()),
+                                references.user(task.getAssigneeId()), references.labels(task.getTaskLabelIds()));
+                    })
+                    .toList();
+            taskRepository.saveAll(entities);
+            List<BulkItemResultDTO> written = new ArrayList<>();
+            for (int i = 0; i < indexes.size(); i++) {
+                written.add(success(indexes.get(i), entities.get(i).getId(), HttpStatus.CREATED));
+            }
+            return written;
+        });
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public List<BulkItemResultDTO> updateAll(List<TaskBulkUpdateDTO> tasks) {
+        checkSize(tasks);
+        BulkItemResultDTO[] results = new BulkItemResultDTO[tasks.size()];
+        TaskReferences references = resolve(tasks.stream()
+                .filter(Objects::nonNull)
+                .map(task -> new ReferenceIds(task.getStatus(), task.getAssigneeId(), task.getTaskLabelIds())));
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskBulkUpdateDTO task = tasks.get(i);
+            String error = validate(task);
+            if (error != null) {
+                results[i] = failure(i, task == null ? null : task.getId(), HttpStatus.BAD_REQUEST, error);
+                continue;
+            }
+            List<String> missing = references.findMissing(task.getStatus(), false, task.getAssigneeId(),
+                    task.getTaskLabelIds());
+            if (!missing.isEmpty()) {
+                results[i] = failure(i, task.getId(), HttpStatus.NOT_FOUND, String.join("; ", missing));
+                continue;
+            }
+            pending.add(i);
+        }
+
+        writeChunks(pending, results, index -> tasks.get(index).getId(), indexes -> {
+            Map<Long, Task> entities = findTasks(indexes.stream().map(index -> tasks.get(index).getId()).toList());
+            List<BulkItemResultDTO> written = new ArrayList<>();
+            for (Integer index : indexes) {
+                TaskBulkUpdateDTO task = tasks.get(index);
+                Task entity = entities.get(task.getId());
+                if (entity == null) {
+                    written.add(failure(index, task.getId(), HttpStatus.NOT_FOUND,
+                            new TaskNotFoundException(task.getId()).getMessage()));
+                    continue;
+                }
+                taskMapper.update(task, entity, references.status(task.getStatus()),
+                        references.user(task.getAssigneeId()), references.labels(task.getTaskLabelIds()));
+                written.add(success(index, task.getId(), HttpStatus.OK));
+            }
+            return written;
+        });
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public List<BulkItemResultDTO> deleteAll(List<Long> ids) {
+        checkSize(ids);
+        BulkItemResultDTO[] results = new BulkItemResultDTO[ids.size()];
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                results[i] = failure(i, null, HttpStatus.BAD_REQUEST, "id must not be null");
+                continue;
+            }
+            pending.add(i);
+        }
+
+        writeChunks(pending, results, ids::get, indexes -> {
+            Map<Long, Task> entities = findTasks(indexes.stream().map(ids::get).toList());
+            taskRepository.deleteAll(entities.values());
+            taskTombstoneRepository.saveAll(entities.keySet().stream()
+                    .map(TaskTombstone::new)
+                    .toList());
+            return indexes.stream()
+                    .map(index -> entities.containsKey(ids.get(index))
+                            ? success(index, ids.get(index), HttpStatus.NO_CONTENT)
+                            : failure(index, ids.get(index), HttpStatus.NOT_FOUND,
+                                    new TaskNotFoundException(ids.get(index)).getMessage()))
+                    .toList();
+        });
+        return Arrays.asList(results);
+    }
+
+    private void checkSize(List<?> items) {
+        if (items.size() > taskProperties.getMaxBulkSize()) {
+            throw new BulkLimitExceededException(items.size(), taskProperties.getMaxBulkSize());
+        }
+    }
+
+    private String validate(Object task) {
+        if (task == null) {
+            return "item must not be null";
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(task);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private TaskReferences resolve(Stream<ReferenceIds> tasks) {
+        Set<String> slugs = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> labelIds = new HashSet<>();
+        tasks.forEach(task -> {
+            if (task.status() != null) {
+                slugs.add(task.status());
+            }
+            if (task.assigneeId() != null) {
+                userIds.add(task.assigneeId());
+            }
+            if (task.labelIds() != null) {
+                task.labelIds().stream()
+                        .filter(Objects::nonNull)
+                        .forEach(labelIds::add);
+            }
+        });
+        return taskReferenceResolver.resolve(slugs, userIds, labelIds);
+    }
+
+    private Map<Long, Task> findTasks(Collection<Long> ids) {
+        return taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private void writeChunks(List<Integer> pending, BulkItemResultDTO[] results,
+                             Function<Integer, Long> idOf, Function<List<Integer>, List<BulkItemResultDTO>> work) {
+        int chunkSize = Math.max(1, taskProperties.getBulkChunkSize());
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            write(pending.subList(from, Math.min(from + chunkSize, pending.size())), results, idOf, work);
+        }
+    }
+
+    private void write(List<Integer> indexes, BulkItemResultDTO[] results,
+                       Function<Integer, Long> idOf, Function<List<Integer>, List<BulkItemResultDTO>> work) {
+        List<BulkItemResultDTO> written;
+        try {
+            written = transactionTemplate.execute(status -> work.apply(indexes));
+        } catch (DataAccessException | TransactionException e) {
+            entityManager.clear();
+            if (indexes.size() > 1) {
+                indexes.forEach(index -> write(List.of(index), results, idOf, work));
+            } else {
+                Integer index = indexes.get(0);
+                log.warn("Bulk item {} could not be written: {}", index, e.getMostSpecificCause().getMessage());
+                results[index] = failure(index, idOf.apply(index), HttpStatus.CONFLICT, WRITE_CONFLICT);
+            }
+            return;
+        }
+        entityManager.clear();
+        if (written != null) {
+            for (BulkItemResultDTO result : written) {
+                results[result.getIndex()] = result;
+            }
+        }
+    }
+
+    private static BulkItemResultDTO success(int index, Long id, HttpStatus status) {
+        return new BulkItemResultDTO(index, id, status.value(), null);
+    }
+
+    private static BulkItemResultDTO failure(int index, Long id, HttpStatus status, String error) {
+        return new BulkItemResultDTO(index, id, status.value(), error);
+    }
+
+    private record ReferenceIds(String status, Long assigneeId, Set<Long> labelIds) {
+    }
+}
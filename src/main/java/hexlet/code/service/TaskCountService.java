@@ -0,0 +1,7 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.TaskCountsDTO;
+
+public interface TaskCountService {
+    TaskCountsDTO getCounts();
+}
@@ -0,0 +1,80 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.TaskCountsDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.event.TaskStatusChangedEvent;
+import hexlet.code.event.TasksImportedEvent;
+import hexlet.code.repository.TaskCountView;
+import hexlet.code.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+public class TaskCountServiceImpl implements TaskCountService {
+
+    private final TaskRepository taskRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CachedCounts cached;
+
+    @Override
+    public TaskCountsDTO getCounts() {
+        long current = generation.get();
+        CachedCounts snapshot = cached;
+        if (snapshot != null && snapshot.generation() == current) {
+            return snapshot.counts();
+        }
+
+        TaskCountsDTO counts = new TaskCountsDTO();
+        counts.setTotal(taskRepository.count());
+        counts.setByStatus(toMap(taskRepository.countByStatus(), String.class::cast));
+        counts.setByAssignee(toMap(taskRepository.countByAssignee(), key -> ((Number) key).longValue()));
+        counts.setByLabel(toMap(taskRepository.countByLabel(), key -> ((Number) key).longValue()));
+
+        if (generation.get() == current) {
+            cached = new CachedCounts(current, counts);
+        }
+        return counts;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        cached = null;
+    }
+
+    private static <K> Map<K, Long> toMap(List<TaskCountView> rows, Function<Object, K> keyMapper) {
+        Map<K, Long> counts = new LinkedHashMap<>();
+        for (TaskCountView row : rows) {
+            counts.put(keyMapper.apply(row.getGroupKey()), row.getTotal());
+        }
+        return counts;
+    }
+
+    private record CachedCounts(long generation, TaskCountsDTO counts) {
+    }
+}
@@ -0,0 +1,11 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.TaskFileFormat;
+import hexlet.code.dto.TaskParamsDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+    void exportTasks(TaskParamsDTO params, TaskFileFormat format, OutputStream output) throws IOException;
+}
@@ -0,0 +1,75 @@
+package hexlet.code.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskFields;
+import hexlet.code.dto.TaskFileFormat;
+import hexlet.code.dto.TaskParamsDTO;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@AllArgsConstructor
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void exportTasks(TaskParamsDTO params, TaskFileFormat format, OutputStream output) throws IOException {
+        Set<String> fields = TaskFields.parse(params.getFields());
+        try (SequenceWriter writer = openWriter(format, fields, output)) {
+            taskService.export(params, tasks -> writeRows(writer, tasks, fields));
+        }
+    }
+
+    private SequenceWriter openWriter(TaskFileFormat format, Set<String> fields, OutputStream output)
+            throws IOException {
+        if (format == TaskFileFormat.CSV) {
+            return CSV_MAPPER.writer(csvSchema(fields)).writeValues(output);
+        }
+        return objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .withRootValueSeparator("\n")
+                .writeValues(output);
+    }
+
+    private static CsvSchema csvSchema(Set<String> fields) {
+        CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+        for (String field : fields) {
+            if (TaskFields.LABEL_IDS.equals(field)) {
+                schema.addArrayColumn(field, ";");
+            } else {
+                schema.addColumn(field);
+            }
+        }
+        return schema.build();
+    }
+
+    private static void writeRows(SequenceWriter writer, List<TaskDTO> tasks, Set<String> fields) {
+        try {
+            for (TaskDTO task : tasks) {
+                writer.write(TaskFields.select(task, fields));
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
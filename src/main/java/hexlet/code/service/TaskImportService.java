@@ -0,0 +1,12 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.TaskImportProgressDTO;
+import hexlet.code.dto.TaskFileFormat;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface TaskImportService {
+    TaskImportProgressDTO importTasks(InputStream input, TaskFileFormat format,
+                                      Consumer<TaskImportProgressDTO> listener);
+}
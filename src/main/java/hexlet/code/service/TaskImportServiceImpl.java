@@ -0,0 +1,193 @@
+package hexlet.code.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.DatabindException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import hexlet.code.cache.ReferenceCache;
+import hexlet.code.config.TaskProperties;
+import hexlet.code.dto.TaskCreateDTO;
+import hexlet.code.dto.TaskImportProgressDTO;
+import hexlet.code.dto.TaskImportRowDTO;
+import hexlet.code.exception.LabelNotFoundException;
+import hexlet.code.exception.TaskStatusNotFoundException;
+import hexlet.code.exception.UserNotFoundException;
+import hexlet.code.importer.ImportedTask;
+import hexlet.code.dto.TaskFileFormat;
+import hexlet.code.importer.TaskImportReferences;
+import hexlet.code.importer.TaskImportWriter;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+@AllArgsConstructor
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema()
+            .withHeader()
+            .withArrayElementSeparator(";");
+
+    private final ReferenceCache referenceCache;
+    private final UserRepository userRepository;
+    private final List<TaskImportWriter> writers;
+    private final TaskProperties taskProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public TaskImportProgressDTO importTasks(InputStream input, TaskFileFormat format,
+                                             Consumer<TaskImportProgressDTO> listener) {
+        TaskImportWriter writer = writers.stream()
+                .filter(TaskImportWriter::isAvailable)
+                .findFirst()
+                .orElseThrow();
+        TaskImportReferences references = new TaskImportReferences(referenceCache, userRepository);
+        ImportState state = new ImportState(listener);
+        int chunkSize = Math.max(1, taskProperties.getImportChunkSize());
+        List<ImportedTask> chunk = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<TaskImportRowDTO> rows = reader(format).readValues(input)) {
+            while (rows.hasNextValue()) {
+                long row = ++state.processed;
+                TaskImportRowDTO value;
+                try {
+                    value = rows.nextValue();
+                } catch (DatabindException e) {
+                    state.reject(row, e.getOriginalMessage());
+                    continue;
+                }
+                ImportedTask task = resolve(row, value, references, state);
+                if (task != null) {
+                    chunk.add(task);
+                }
+                if (chunk.size() >= chunkSize) {
+                    write(writer, chunk, state);
+                }
+            }
+            write(writer, chunk, state);
+        } catch (IOException e) {
+            write(writer, chunk, state);
+            writer.finish(state.imported);
+            return state.report(TaskImportProgressDTO.FAILED, e.getMessage());
+        }
+        writer.finish(state.imported);
+        return state.report(TaskImportProgressDTO.COMPLETED, null);
+    }
+
+    private ObjectReader reader(TaskFileFormat format) {
+        if (format == TaskFileFormat.CSV) {
+            return CSV_MAPPER.readerFor(TaskImportRowDTO.class).with(CSV_SCHEMA);
+        }
+        return objectMapper.readerFor(TaskImportRowDTO.class);
+    }
+
+    private ImportedTask resolve(long row, TaskImportRowDTO value, TaskImportReferences references,
+                                 ImportState state) {
+        if (value.getTitle() == null || value.getTitle().isBlank()) {
+            state.reject(row, "title is required");
+            return null;
+        }
+        if (value.getStatus() == null) {
+            state.reject(row, "status is required");
+            return null;
+        }
+        Optional<TaskStatus> status = references.findStatus(value.getStatus());
+        if (status.isEmpty()) {
+            state.reject(row, new TaskStatusNotFoundException(value.getStatus()).getMessage());
+            return null;
+        }
+        User assignee = null;
+        if (value.getAssignee() != null) {
+            Optional<User> user = references.findUser(value.getAssignee());
+            if (user.isEmpty()) {
+                state.reject(row, new UserNotFoundException(value.getAssignee()).getMessage());
+                return null;
+            }
+            assignee = user.get();
+        }
+        Set<Label> labels = new HashSet<>();
+        if (value.getLabels() != null) {
+            for (String name : value.getLabels()) {
+                Optional<Label> label = references.findLabel(name);
+                if (label.isEmpty()) {
+                    state.reject(row, new LabelNotFoundException(name).getMessage());
+                    return null;
+                }
+                labels.add(label.get());
+            }
+        }
+
+        TaskCreateDTO task = new TaskCreateDTO();
+        task.setTitle(value.getTitle());
+        task.setIndex(value.getIndex());
+        task.setContent(value.getContent());
+        return new ImportedTask(row, task, status.get(), assignee, labels);
+    }
+
+    private void write(TaskImportWriter writer, List<ImportedTask> chunk, ImportState state) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> writer.write(chunk));
+            state.imported += chunk.size();
+        } catch (DataAccessException | TransactionException e) {
+            String error = e.getMostSpecificCause().getMessage();
+            chunk.forEach(task -> state.reject(task.row(), error));
+        } finally {
+            entityManager.clear();
+            chunk.clear();
+        }
+        state.report(TaskImportProgressDTO.PROGRESS, null);
+    }
+
+    private static final class ImportState {
+        private final Consumer<TaskImportProgressDTO> listener;
+        private long processed;
+        private long imported;
+        private long rejected;
+
+        private ImportState(Consumer<TaskImportProgressDTO> listener) {
+            this.listener = listener;
+        }
+
+        private void reject(long row, String error) {
+            rejected++;
+            listener.accept(new TaskImportProgressDTO(TaskImportProgressDTO.REJECTED, row, error, null, null, null));
+        }
+
+        private TaskImportProgressDTO report(String type, String error) {
+            TaskImportProgressDTO progress = new TaskImportProgressDTO(type, null, error, processed, imported,
+                    rejected);
+            listener.accept(progress);
+            return progress;
+        }
+    }
+}
@@ -1,16 +1,31 @@
 package hexlet.code.service;
 
+import hexlet.code.dto.BoardColumnDTO;
+import hexlet.code.dto.TaskChangesDTO;
 import hexlet.code.dto.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskMoveDTO;
+import hexlet.code.dto.TaskParamsDTO;
 import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.pagination.TaskPage;
+import hexlet.code.patch.MergePatch;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
     List<TaskDTO> getAll();
     List<TaskDTO> getWithFilters(String titleCont, Long assigneeId, String status, Long labelId);
+    TaskPage getPage(TaskParamsDTO params, String cursor, int offset, Integer limit);
+    List<BoardColumnDTO> getBoard(Integer perColumn);
+    BoardColumnDTO getBoardColumn(String status, String cursor, Integer limit);
+    TaskChangesDTO getChanges(String since, Integer limit);
+    void export(TaskParamsDTO params, Consumer<List<TaskDTO>> consumer);
     TaskDTO create(TaskCreateDTO taskCreateDTO);
     TaskDTO findById(Long id);
-    TaskDTO update(Long id, TaskUpdateDTO taskUpdateDTO);
-    void delete(Long id);
+    long getVersion(Long id);
+    TaskDTO update(Long id, TaskUpdateDTO taskUpdateDTO, Long expectedVersion);
+    TaskDTO patch(Long id, MergePatch<TaskUpdateDTO> patch, Long expectedVersion);
+    TaskDTO move(Long id, TaskMoveDTO taskMoveDTO);
+    void delete(Long id, Long expectedVersion);
 }
@@ -1,32 +1,82 @@
 package hexlet.code.service;
 
+import hexlet.code.cache.ReferenceCache;
+import hexlet.code.config.TaskProperties;
+import hexlet.code.dto.BoardColumnDTO;
+import hexlet.code.dto.TaskChangesDTO;
 import hexlet.code.dto.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskFields;
+import hexlet.code.dto.TaskMoveDTO;
+import hexlet.code.dto.TaskParamsDTO;
 import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.etag.IfMatch;
+import hexlet.code.exception.ChangeTokenExpiredException;
+import hexlet.code.exception.InvalidCursorException;
+import hexlet.code.exception.InvalidMoveException;
 import hexlet.code.exception.TaskNotFoundException;
+import hexlet.code.exception.TaskStatusNotFoundException;
 import hexlet.code.mapper.TaskMapper;
 import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.TaskTombstone;
+import hexlet.code.ordering.TaskRebalancer;
+import hexlet.code.pagination.BoardCursor;
+import hexlet.code.pagination.ChangeToken;
+import hexlet.code.pagination.TaskCursor;
+import hexlet.code.pagination.TaskPage;
+import hexlet.code.patch.MergePatch;
+import hexlet.code.repository.TaskBoardRow;
+import hexlet.code.repository.TaskChangeView;
+import hexlet.code.repository.TaskPositionView;
 import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.TaskTombstoneRepository;
+import hexlet.code.search.TaskFilterIndex;
+import hexlet.code.search.TaskSearchIndex;
 import hexlet.code.specification.TaskSpecification;
 import lombok.AllArgsConstructor;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 @AllArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final Sort PAGE_ORDER = Sort.by("createdAt", "id");
+
     private final TaskRepository taskRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
     private final TaskMapper taskMapper;
+    private final TaskProperties taskProperties;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskFilterIndex taskFilterIndex;
+    private final TaskRebalancer taskRebalancer;
+    private final ReferenceCache referenceCache;
+    private final TaskTombstoneService taskTombstoneService;
 
     @Override
     public List<TaskDTO> getAll() {
-        List<Task> tasks = taskRepository.findAll();
-        return tasks.stream()
-                .map(taskMapper::map)
-                .toList();
+        if (isProjectionReadModel()) {
+            return taskRepository.findDtoSlice(null, PAGE_ORDER, 0, Integer.MAX_VALUE);
+        }
+        return toDtos(taskRepository.findAll(), TaskFields.ALL);
     }
 
     @Override
@@ -36,12 +86,151 @@ public class TaskServiceImpl implements TaskService {
                 .and(TaskSpecification.withStatus(status))
                 .and(TaskSpecification.withLabelId(labelId));
 
-        List<Task> tasks = taskRepository.findAll(spec);
-        return tasks.stream()
-                .map(taskMapper::map)
+        if (isProjectionReadModel()) {
+            return taskRepository.findDtoSlice(spec, PAGE_ORDER, 0, Integer.MAX_VALUE);
+        }
+        List<Task> tasks = taskRepository.findAll(spec.and(TaskSpecification.fetchStatusAndAssignee()));
+        return toDtos(tasks, TaskFields.ALL);
+    }
+
+    @Override
+    public TaskPage getPage(TaskParamsDTO params, String cursor, int offset, Integer limit) {
+        int maxPageSize = taskProperties.getMaxPageSize();
+        int pageSize = limit == null ? maxPageSize : Math.max(0, Math.min(limit, maxPageSize));
+        Set<String> fields = TaskFields.parse(params.getFields());
+
+        Optional<Roaring64NavigableMap> candidates = findCandidates(params);
+        if (params.getQ() != null) {
+            Optional<List<Long>> rankedIds = taskSearchIndex.search(params.getQ());
+            if (rankedIds.isPresent()) {
+                if (cursor != null) {
+                    throw new InvalidCursorException(cursor);
+                }
+                return getRankedPage(params, candidates, rankedIds.get(), offset, pageSize, fields);
+            }
+        }
+
+        Long knownTotal = null;
+        Specification<Task> spec;
+        if (candidates.isPresent() && candidates.get().getLongCardinality() <= taskProperties.getMaxIdFilterSize()) {
+            if (candidates.get().isEmpty() && cursor == null) {
+                return new TaskPage(List.of(), 0, null);
+            }
+            List<Long> ids = new ArrayList<>();
+            candidates.get().forEach(ids::add);
+            spec = TaskSpecification.withIds(ids);
+            knownTotal = params.getQ() == null ? (long) ids.size() : null;
+        } else {
+            spec = filterSpecification(params);
+        }
+        spec = spec.and(TaskSpecification.withText(params.getQ()));
+
+        Specification<Task> pageSpec = spec.and(TaskSpecification.fetchStatusAndAssignee());
+        long firstRow = Math.max(offset, 0);
+        if (cursor != null) {
+            pageSpec = pageSpec.and(TaskSpecification.after(TaskCursor.decode(cursor)));
+            firstRow = 0;
+        }
+
+        List<TaskDTO> rows = findRows(pageSpec, firstRow, pageSize + 1, fields);
+        List<TaskDTO> content = rows.subList(0, Math.min(rows.size(), pageSize));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize && !content.isEmpty()) {
+            nextCursor = TaskCursor.of(content.get(content.size() - 1)).encode();
+        }
+        long total = knownTotal == null ? taskRepository.count(spec) : knownTotal;
+        return new TaskPage(content, total, nextCursor);
+    }
+
+    @Override
+    public List<BoardColumnDTO> getBoard(Integer perColumn) {
+        int columnSize = clampColumnSize(perColumn);
+        Map<Long, List<TaskBoardRow>> rowsByStatus = new HashMap<>();
+        for (TaskBoardRow row : taskRepository.findBoardRows(null, null, columnSize + 1)) {
+            rowsByStatus.computeIfAbsent(row.getStatusId(), id -> new ArrayList<>()).add(row);
+        }
+
+        return taskStatusRepository.findAll(Sort.by("id")).stream()
+                .map(status -> toColumn(status, rowsByStatus.getOrDefault(status.getId(), List.of()), columnSize))
                 .toList();
     }
 
+    @Override
+    public BoardColumnDTO getBoardColumn(String status, String cursor, Integer limit) {
+        TaskStatus taskStatus = referenceCache.findTaskStatusBySlug(status)
+                .orElseThrow(() -> new TaskStatusNotFoundException(status));
+        BoardCursor after = cursor == null ? null : BoardCursor.decode(cursor);
+        int columnSize = clampColumnSize(limit);
+        List<TaskBoardRow> rows = taskRepository.findBoardRows(taskStatus.getId(), after, columnSize + 1);
+        BoardColumnDTO column = toColumn(taskStatus, rows, columnSize);
+        if (rows.isEmpty() && after != null) {
+            column.setTotal(taskRepository.count(TaskSpecification.withStatus(status)));
+        }
+        return column;
+    }
+
+    @Override
+    public TaskChangesDTO getChanges(String since, Integer limit) {
+        ChangeToken token = ChangeToken.decode(since);
+        if (since != null && token.getChangeSeq() < taskTombstoneService.getPurgedChangeSeq()) {
+            throw new ChangeTokenExpiredException(since);
+        }
+        int maxPageSize = taskProperties.getMaxPageSize();
+        int pageSize = limit == null ? maxPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        Instant horizon = Instant.now().minus(taskProperties.getChangesSettleTime());
+
+        List<TaskChangeView> changes = taskRepository.findChangesAfter(token.getChangeSeq(), horizon,
+                Limit.of(pageSize + 1));
+        List<TaskTombstone> tombstones = taskTombstoneRepository
+                .findByChangeSeqGreaterThanAndDeletedAtLessThanEqualOrderByChangeSeqAsc(token.getChangeSeq(), horizon,
+                        Limit.of(pageSize + 1));
+
+        List<Long> updatedIds = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        long lastSeq = token.getChangeSeq();
+        int updateIndex = 0;
+        int tombstoneIndex = 0;
+        while (updatedIds.size() + deletedIds.size() < pageSize
+                && (updateIndex < changes.size() || tombstoneIndex < tombstones.size())) {
+            boolean nextIsUpdate = tombstoneIndex >= tombstones.size()
+                    || updateIndex < changes.size()
+                    && changes.get(updateIndex).getChangeSeq() < tombstones.get(tombstoneIndex).getChangeSeq();
+            if (nextIsUpdate) {
+                TaskChangeView change = changes.get(updateIndex);
+                updatedIds.add(change.getId());
+                lastSeq = change.getChangeSeq();
+                updateIndex++;
+            } else {
+                TaskTombstone tombstone = tombstones.get(tombstoneIndex);
+                deletedIds.add(tombstone.getTaskId());
+                lastSeq = tombstone.getChangeSeq();
+                tombstoneIndex++;
+            }
+        }
+
+        List<TaskDTO> updated = List.of();
+        if (!updatedIds.isEmpty()) {
+            updated = taskRepository.findDtoSlice(TaskSpecification.withIds(updatedIds), Sort.by("changeSeq"), 0,
+                    updatedIds.size());
+        }
+
+        TaskChangesDTO result = new TaskChangesDTO();
+        result.setUpdated(updated);
+        result.setDeleted(deletedIds);
+        result.setNext(new ChangeToken(lastSeq).encode());
+        result.setHasMore(updateIndex < changes.size() || tombstoneIndex < tombstones.size());
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(TaskParamsDTO params, Consumer<List<TaskDTO>> consumer) {
+        Set<String> fields = TaskFields.parse(params.getFields());
+        Specification<Task> spec = filterSpecification(params).and(TaskSpecification.withText(params.getQ()));
+        taskRepository.streamDtos(spec, PAGE_ORDER, fields, taskProperties.getExportBatchSize(), consumer);
+    }
+
     @Override
     public TaskDTO create(TaskCreateDTO taskCreateDTO) {
         Task task = taskMapper.map(taskCreateDTO);
@@ -51,24 +240,284 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public TaskDTO findById(Long id) {
+        if (isProjectionReadModel()) {
+            return taskRepository.findDtoSlice(TaskSpecification.withId(id), PAGE_ORDER, 0, 1).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+        }
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
         return taskMapper.map(task);
     }
 
     @Override
-    public TaskDTO update(Long id, TaskUpdateDTO taskUpdateDTO) {
+    public long getVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    @Override
+    public TaskDTO update(Long id, TaskUpdateDTO taskUpdateDTO, Long expectedVersion) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        IfMatch.check(expectedVersion, task.getVersion(), "Task", id);
         taskMapper.update(taskUpdateDTO, task);
         task = taskRepository.save(task);
         return taskMapper.map(task);
     }
 
     @Override
-    public void delete(Long id) {
+    @Transactional
+    public TaskDTO patch(Long id, MergePatch<TaskUpdateDTO> patch, Long expectedVersion) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        IfMatch.check(expectedVersion, task.getVersion(), "Task", id);
+        taskMapper.patch(patch, task);
+        return taskMapper.map(task);
+    }
+
+    @Override
+    @Transactional
+    public TaskDTO move(Long id, TaskMoveDTO taskMoveDTO) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        TaskStatus source = task.getTaskStatus();
+        TaskStatus taskStatus = source;
+        if (taskMoveDTO.getStatus() != null) {
+            taskStatus = referenceCache.findTaskStatusBySlug(taskMoveDTO.getStatus())
+                    .orElseThrow(() -> new TaskStatusNotFoundException(taskMoveDTO.getStatus()));
+        }
+        if (taskStatus == null) {
+            throw new InvalidMoveException("Task " + id + " has no status to move within");
+        }
+        if (taskMoveDTO.getPosition() != null && (taskMoveDTO.getAfterId() != null
+                || taskMoveDTO.getBeforeId() != null)) {
+            throw new InvalidMoveException("Position cannot be combined with afterId or beforeId");
+        }
+
+        taskRebalancer.lockColumns(source == null ? null : source.getId(), taskStatus.getId());
+        taskRebalancer.materializeTail(taskStatus.getId());
+        Slot slot = findSlot(id, taskStatus, taskMoveDTO);
+        Long position = slot.position();
+        if (position == null) {
+            taskRebalancer.rebalance(taskStatus.getId());
+            slot = findSlot(id, taskStatus, taskMoveDTO);
+            position = slot.position();
+        } else if (slot.gap() < taskProperties.getRebalanceGap()) {
+            taskRebalancer.rebalanceLater(taskStatus.getId());
+        }
+
+        task.setTaskStatus(taskStatus);
+        task.setPosition(position);
+        task = taskRepository.save(task);
+        return taskMapper.map(task);
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id, Long expectedVersion) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        IfMatch.check(expectedVersion, task.getVersion(), "Task", id);
         taskRepository.delete(task);
+        taskTombstoneRepository.save(new TaskTombstone(id));
+    }
+
+    private TaskPage getRankedPage(TaskParamsDTO params, Optional<Roaring64NavigableMap> candidates,
+                                   List<Long> rankedIds, int offset, int pageSize, Set<String> fields) {
+        List<Long> matchingIds = rankedIds;
+        if (candidates.isPresent()) {
+            Roaring64NavigableMap candidateIds = candidates.get();
+            matchingIds = rankedIds.stream()
+                    .filter(candidateIds::contains)
+                    .toList();
+        } else if (hasFilters(params) && !rankedIds.isEmpty()) {
+            Set<Long> filteredIds = new HashSet<>(taskRepository.findIds(
+                    filterSpecification(params).and(TaskSpecification.withIds(rankedIds))));
+            matchingIds = rankedIds.stream()
+                    .filter(filteredIds::contains)
+                    .toList();
+        }
+
+        List<Long> pageIds = matchingIds.stream()
+                .skip(Math.max(offset, 0))
+                .limit(pageSize)
+                .toList();
+        Map<Long, TaskDTO> rows = new HashMap<>();
+        if (!pageIds.isEmpty()) {
+            Specification<Task> pageSpec = TaskSpecification.withIds(pageIds)
+                    .and(TaskSpecification.fetchStatusAndAssignee());
+            findRows(pageSpec, 0, pageIds.size(), fields).forEach(row -> rows.put(row.getId(), row));
+        }
+
+        List<TaskDTO> content = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new TaskPage(content, matchingIds.size(), null);
+    }
+
+    private Specification<Task> filterSpecification(TaskParamsDTO params) {
+        Specification<Task> spec = TaskSpecification.withAssigneeId(params.getAssigneeId())
+                .and(TaskSpecification.withStatus(params.getStatus()))
+                .and(TaskSpecification.withLabelIds(params.getLabelId(), isMatchAllLabels(params)));
+
+        String titleCont = params.getTitleCont();
+        if (titleCont == null) {
+            return spec;
+        }
+        Specification<Task> titleSpec = taskSearchIndex.findByTitle(titleCont)
+                .filter(ids -> ids.size() <= taskProperties.getMaxIdFilterSize())
+                .map(TaskSpecification::withIds)
+                .orElseGet(() -> TaskSpecification.withTitleCont(titleCont));
+        return spec.and(titleSpec);
+    }
+
+    private boolean hasFilters(TaskParamsDTO params) {
+        return params.getTitleCont() != null || hasMembershipFilters(params);
+    }
+
+    private Optional<Roaring64NavigableMap> findCandidates(TaskParamsDTO params) {
+        String titleCont = params.getTitleCont();
+        Optional<Roaring64NavigableMap> candidates = taskFilterIndex.filter(params.getStatus(),
+                params.getAssigneeId(), params.getLabelId(), isMatchAllLabels(params));
+        if (titleCont == null) {
+            return candidates;
+        }
+        Optional<Set<Long>> titleIds = taskSearchIndex.findByTitle(titleCont);
+        if (titleIds.isEmpty()) {
+            return Optional.empty();
+        }
+        Roaring64NavigableMap titleBitmap = new Roaring64NavigableMap();
+        titleIds.get().forEach(titleBitmap::addLong);
+        if (candidates.isPresent()) {
+            titleBitmap.and(candidates.get());
+            return Optional.of(titleBitmap);
+        }
+        return hasMembershipFilters(params) ? Optional.empty() : Optional.of(titleBitmap);
+    }
+
+    private boolean hasMembershipFilters(TaskParamsDTO params) {
+        return params.getAssigneeId() != null
+                || params.getStatus() != null
+                || params.getLabelId() != null && !params.getLabelId().isEmpty();
+    }
+
+    private boolean isMatchAllLabels(TaskParamsDTO params) {
+        return "all".equalsIgnoreCase(params.getLabelMatch());
+    }
+
+    private List<TaskDTO> findRows(Specification<Task> spec, long offset, int limit, Set<String> fields) {
+        if (isProjectionReadModel() || !TaskFields.ALL.equals(fields)) {
+            return taskRepository.findDtoSlice(spec, PAGE_ORDER, offset, limit, fields);
+        }
+        return taskRepository.findSlice(spec, PAGE_ORDER, offset, limit).stream()
+                .map(row -> {
+                    TaskDTO taskDTO = taskMapper.map(row.getTask(), false);
+                    taskDTO.setContent(row.getContent());
+                    return taskDTO;
+                })
+                .toList();
+    }
+
+    private List<TaskDTO> toDtos(List<Task> tasks, Set<String> fields) {
+        List<TaskDTO> taskDTOs = tasks.stream()
+                .map(task -> taskMapper.map(task, false))
+                .toList();
+        if (fields.contains(TaskFields.CONTENT) && !taskDTOs.isEmpty()) {
+            Map<Long, String> contents = taskRepository.findContents(taskDTOs.stream().map(TaskDTO::getId).toList());
+            taskDTOs.forEach(taskDTO -> taskDTO.setContent(contents.get(taskDTO.getId())));
+        }
+        return taskDTOs;
+    }
+
+    private Slot findSlot(Long id, TaskStatus taskStatus, TaskMoveDTO taskMoveDTO) {
+        Long statusId = taskStatus.getId();
+        if (taskMoveDTO.getPosition() != null) {
+            int position = taskMoveDTO.getPosition();
+            if (position == 0) {
+                List<Long> first = taskRepository.findColumnPositions(statusId, id, 0, 1);
+                return new Slot(null, first.isEmpty() ? null : first.get(0));
+            }
+            List<Long> neighbours = taskRepository.findColumnPositions(statusId, id, position - 1, 2);
+            if (!neighbours.isEmpty()) {
+                return new Slot(neighbours.get(0), neighbours.size() > 1 ? neighbours.get(1) : null);
+            }
+        }
+        if (taskMoveDTO.getAfterId() != null) {
+            TaskPositionView after = findNeighbour(id, taskStatus, taskMoveDTO.getAfterId());
+            TaskPositionView next = taskRepository.findPositionsAfter(statusId, id, after.getPosition(),
+                    after.getId(), Limit.of(1)).stream().findFirst().orElse(null);
+            Long beforeId = taskMoveDTO.getBeforeId();
+            if (beforeId != null && (next == null || !next.getId().equals(beforeId))) {
+                throw new InvalidMoveException("Tasks " + after.getId() + " and " + beforeId + " are not adjacent");
+            }
+            return new Slot(after.getPosition(), next == null ? null : next.getPosition());
+        }
+        if (taskMoveDTO.getBeforeId() != null) {
+            TaskPositionView before = findNeighbour(id, taskStatus, taskMoveDTO.getBeforeId());
+            TaskPositionView previous = taskRepository.findPositionsBefore(statusId, id, before.getPosition(),
+                    before.getId(), Limit.of(1)).stream().findFirst().orElse(null);
+            return new Slot(previous == null ? null : previous.getPosition(), before.getPosition());
+        }
+        TaskPositionView last = taskRepository.findPositionsBefore(statusId, id, Long.MAX_VALUE, Long.MAX_VALUE,
+                Limit.of(1)).stream().findFirst().orElse(null);
+        return new Slot(last == null ? null : last.getPosition(), null);
+    }
+
+    private TaskPositionView findNeighbour(Long id, TaskStatus taskStatus, Long neighbourId) {
+        if (neighbourId.equals(id)) {
+            throw new InvalidMoveException("Task " + id + " cannot be moved relative to itself");
+        }
+        return taskRepository.findPosition(neighbourId, taskStatus.getId())
+                .orElseThrow(() -> new InvalidMoveException("Task " + neighbourId + " is not in status "
+                        + taskStatus.getSlug()));
+    }
+
+    private int clampColumnSize(Integer size) {
+        if (size == null) {
+            return taskProperties.getBoardColumnSize();
+        }
+        return Math.max(0, Math.min(size, taskProperties.getMaxPageSize()));
+    }
+
+    private BoardColumnDTO toColumn(TaskStatus status, List<TaskBoardRow> rows, int columnSize) {
+        List<TaskDTO> tasks = rows.stream()
+                .limit(columnSize)
+                .map(TaskBoardRow::getTask)
+                .toList();
+
+        BoardColumnDTO column = new BoardColumnDTO();
+        column.setStatusId(status.getId());
+        column.setStatus(status.getSlug());
+        column.setName(status.getName());
+        column.setTotal(rows.isEmpty() ? 0 : rows.get(0).getColumnTotal());
+        column.setTasks(tasks);
+        if (rows.size() > columnSize && !tasks.isEmpty()) {
+            TaskBoardRow last = rows.get(tasks.size() - 1);
+            column.setNextCursor(BoardCursor.of(last.getPosition(), last.getTask().getId()).encode());
+        }
+        return column;
+    }
+
+    private record Slot(Long lower, Long upper) {
+
+        Long position() {
+            if (lower == null) {
+                return upper == null ? Task.POSITION_GAP : upper - Task.POSITION_GAP;
+            }
+            if (upper == null) {
+                return lower + Task.POSITION_GAP;
+            }
+            return upper - lower < 2 ? null : lower + (upper - lower) / 2;
+        }
+
+        long gap() {
+            return lower == null || upper == null ? Long.MAX_VALUE : upper - lower;
+        }
+    }
+
+    private boolean isProjectionReadModel() {
+        return taskProperties.getReadModel() == TaskProperties.ReadModel.PROJECTION;
     }
 }
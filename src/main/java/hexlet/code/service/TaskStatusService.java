@@ -4,6 +4,7 @@ import hexlet.code.dto.TaskStatusCreateDTO;
 import hexlet.code.dto.TaskStatusDTO;
 import hexlet.code.dto.TaskStatusUpdateDTO;
 import hexlet.code.model.TaskStatus;
+import hexlet.code.patch.MergePatch;
 
 import java.util.List;
 
@@ -11,8 +12,10 @@ public interface TaskStatusService {
     List<TaskStatusDTO> getAll();
     TaskStatusDTO create(TaskStatusCreateDTO taskStatusCreateDTO);
     TaskStatusDTO findById(Long id);
+    long getVersion(Long id);
     TaskStatus findByIdEntity(Long id);
-    TaskStatusDTO update(Long id, TaskStatusUpdateDTO taskStatusUpdateDTO);
-    void delete(Long id);
+    TaskStatusDTO update(Long id, TaskStatusUpdateDTO taskStatusUpdateDTO, Long expectedVersion);
+    TaskStatusDTO patch(Long id, MergePatch<TaskStatusUpdateDTO> patch, Long expectedVersion);
+    void delete(Long id, Long expectedVersion);
     TaskStatus findBySlug(String slug);
 }
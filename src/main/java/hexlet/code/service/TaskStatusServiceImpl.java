@@ -1,16 +1,20 @@
 package hexlet.code.service;
 
+import hexlet.code.cache.ReferenceCache;
 import hexlet.code.dto.TaskStatusCreateDTO;
 import hexlet.code.dto.TaskStatusDTO;
 import hexlet.code.dto.TaskStatusUpdateDTO;
+import hexlet.code.etag.IfMatch;
 import hexlet.code.exception.TaskStatusDeletionException;
 import hexlet.code.exception.TaskStatusNotFoundException;
 import hexlet.code.mapper.TaskStatusMapper;
 import hexlet.code.model.TaskStatus;
+import hexlet.code.patch.MergePatch;
 import hexlet.code.repository.TaskStatusRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -20,6 +24,7 @@ public class TaskStatusServiceImpl implements TaskStatusService {
 
     private final TaskStatusRepository taskStatusRepository;
     private final TaskStatusMapper taskStatusMapper;
+    private final ReferenceCache referenceCache;
 
     @Override
     public List<TaskStatusDTO> getAll() {
@@ -43,25 +48,43 @@ public class TaskStatusServiceImpl implements TaskStatusService {
         return taskStatusMapper.map(taskStatus);
     }
 
+    @Override
+    public long getVersion(Long id) {
+        return taskStatusRepository.findVersionById(id)
+                .orElseThrow(() -> new TaskStatusNotFoundException(id));
+    }
+
     @Override
     public TaskStatus findByIdEntity(Long id) {
-        return taskStatusRepository.findById(id)
+        return referenceCache.findTaskStatusById(id)
                 .orElseThrow(() -> new TaskStatusNotFoundException(id));
     }
 
     @Override
-    public TaskStatusDTO update(Long id, TaskStatusUpdateDTO taskStatusUpdateDTO) {
+    public TaskStatusDTO update(Long id, TaskStatusUpdateDTO taskStatusUpdateDTO, Long expectedVersion) {
         TaskStatus taskStatus = taskStatusRepository.findById(id)
                 .orElseThrow(() -> new TaskStatusNotFoundException(id));
+        IfMatch.check(expectedVersion, taskStatus.getVersion(), "Task status", id);
         taskStatusMapper.update(taskStatusUpdateDTO, taskStatus);
         taskStatus = taskStatusRepository.save(taskStatus);
         return taskStatusMapper.map(taskStatus);
     }
 
     @Override
-    public void delete(Long id) {
+    @Transactional
+    public TaskStatusDTO patch(Long id, MergePatch<TaskStatusUpdateDTO> patch, Long expectedVersion) {
+        TaskStatus taskStatus = taskStatusRepository.findById(id)
+                .orElseThrow(() -> new TaskStatusNotFoundException(id));
+        IfMatch.check(expectedVersion, taskStatus.getVersion(), "Task status", id);
+        taskStatusMapper.patch(patch, taskStatus);
+        return taskStatusMapper.map(taskStatus);
+    }
+
+    @Override
+    public void delete(Long id, Long expectedVersion) {
         TaskStatus taskStatus = taskStatusRepository.findById(id)
                 .orElseThrow(() -> new TaskStatusNotFoundException(id));
+        IfMatch.check(expectedVersion, taskStatus.getVersion(), "Task status", id);
 
         try {
             taskStatusRepository.delete(taskStatus);
@@ -72,7 +95,7 @@ public class TaskStatusServiceImpl implements TaskStatusService {
 
     @Override
     public TaskStatus findBySlug(String slug) {
-        return taskStatusRepository.findBySlug(slug)
+        return referenceCache.findTaskStatusBySlug(slug)
                 .orElseThrow(() -> new TaskStatusNotFoundException(slug));
     }
 }
@@ -0,0 +1,7 @@
+package hexlet.code.service;
+
+public interface TaskTombstoneService {
+    long getPurgedChangeSeq();
+
+    int purgeExpired();
+}
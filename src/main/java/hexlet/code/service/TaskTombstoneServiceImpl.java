@@ -0,0 +1,46 @@
+package hexlet.code.service;
+
+import hexlet.code.config.TaskProperties;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class TaskTombstoneServiceImpl implements TaskTombstoneService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskProperties taskProperties;
+
+    @Override
+    public long getPurgedChangeSeq() {
+        Long purgedChangeSeq = jdbcTemplate.queryForObject(
+                "select purged_change_seq from task_change_horizon where id = 1", Long.class);
+        return purgedChangeSeq == null ? 0 : purgedChangeSeq;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "#{@taskProperties.tombstonePurgeInterval.toMillis()}")
+    public int purgeExpired() {
+        Instant cutoff = Instant.now().minus(taskProperties.getTombstoneRetention());
+        Long purgedChangeSeq = jdbcTemplate.queryForObject(
+                "select max(change_seq) from task_tombstones where deleted_at < ?", Long.class,
+                Timestamp.from(cutoff));
+        if (purgedChangeSeq == null) {
+            return 0;
+        }
+        jdbcTemplate.update("update task_change_horizon set purged_change_seq = ?"
+                + " where id = 1 and purged_change_seq < ?", purgedChangeSeq, purgedChangeSeq);
+        int purged = jdbcTemplate.update("delete from task_tombstones where change_seq <= ?", purgedChangeSeq);
+        log.info("Purged {} task tombstones up to change {}", purged, purgedChangeSeq);
+        return purged;
+    }
+}
@@ -4,6 +4,7 @@ import hexlet.code.dto.UserCreateDTO;
 import hexlet.code.dto.UserDTO;
 import hexlet.code.dto.UserUpdateDTO;
 import hexlet.code.model.User;
+import hexlet.code.patch.MergePatch;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,9 +13,11 @@ public interface UserService {
     List<UserDTO> getAll();
     UserDTO create(UserCreateDTO userCreateDTO);
     UserDTO findById(Long id);
+    long getVersion(Long id);
     User findByIdEntity(Long id);
-    UserDTO update(Long id, UserUpdateDTO userUpdateDTO);
-    void delete(Long id);
+    UserDTO update(Long id, UserUpdateDTO userUpdateDTO, Long expectedVersion);
+    UserDTO patch(Long id, MergePatch<UserUpdateDTO> patch, Long expectedVersion);
+    void delete(Long id, Long expectedVersion);
     Optional<User> findByEmail(String email);
     String findEmailById(Long id);
 }
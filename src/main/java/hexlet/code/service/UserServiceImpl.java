@@ -1,17 +1,21 @@
 package hexlet.code.service;
 
+import hexlet.code.cache.ReferenceCache;
 import hexlet.code.dto.UserCreateDTO;
 import hexlet.code.dto.UserDTO;
 import hexlet.code.dto.UserUpdateDTO;
+import hexlet.code.etag.IfMatch;
 import hexlet.code.exception.UserDeletionException;
 import hexlet.code.exception.UserNotFoundException;
 import hexlet.code.mapper.UserMapper;
 import hexlet.code.model.User;
+import hexlet.code.patch.MergePatch;
 import hexlet.code.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +27,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ReferenceCache referenceCache;
 
     @Override
     public List<UserDTO> getAll() {
@@ -47,6 +52,12 @@ public class UserServiceImpl implements UserService {
         return userMapper.map(user);
     }
 
+    @Override
+    public long getVersion(Long id) {
+        return userRepository.findVersionById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+    }
+
     @Override
     public User findByIdEntity(Long id) {
         return userRepository.findById(id)
@@ -54,9 +65,10 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public UserDTO update(Long id, UserUpdateDTO userUpdateDTO) {
+    public UserDTO update(Long id, UserUpdateDTO userUpdateDTO, Long expectedVersion) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
+        IfMatch.check(expectedVersion, user.getVersion(), "User", id);
         userMapper.update(userUpdateDTO, user);
         if (userUpdateDTO.getPassword() != null) {
             user.setPassword(passwordEncoder.encode(userUpdateDTO.getPassword()));
@@ -66,9 +78,23 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public void delete(Long id) {
+    @Transactional
+    public UserDTO patch(Long id, MergePatch<UserUpdateDTO> patch, Long expectedVersion) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
+        IfMatch.check(expectedVersion, user.getVersion(), "User", id);
+        userMapper.patch(patch, user);
+        if (patch.has("password")) {
+            user.setPassword(passwordEncoder.encode(user.getPassword()));
+        }
+        return userMapper.map(user);
+    }
+
+    @Override
+    public void delete(Long id, Long expectedVersion) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+        IfMatch.check(expectedVersion, user.getVersion(), "User", id);
 
         try {
             userRepository.delete(user);
@@ -84,8 +110,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public String findEmailById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException(id))
-                .getEmail();
+        return referenceCache.findUserEmail(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
     }
 }
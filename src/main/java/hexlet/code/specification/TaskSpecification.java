@@ -1,14 +1,55 @@
 package hexlet.code.specification;
 
+import hexlet.code.model.Label;
 import hexlet.code.model.Task;
+import hexlet.code.pagination.TaskCursor;
 import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 
 public final class TaskSpecification {
 
     private TaskSpecification() {
     }
 
+    public static Specification<Task> fetchStatusAndAssignee() {
+        return (root, query, cb) -> {
+            if (query != null && Task.class.equals(query.getResultType())) {
+                root.fetch("taskStatus", JoinType.LEFT);
+                root.fetch("assignee", JoinType.LEFT);
+            }
+            return cb.conjunction();
+        };
+    }
+
+    public static Specification<Task> withId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<Task> withIds(Collection<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    public static Specification<Task> withText(String text) {
+        return (root, query, cb) -> {
+            if (text == null) {
+                return cb.conjunction();
+            }
+            String pattern = "%" + text.toLowerCase() + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("content")), pattern)
+            );
+        };
+    }
+
     public static Specification<Task> withTitleCont(String titleCont) {
         return (root, query, cb) -> {
             if (titleCont == null) {
@@ -44,4 +85,38 @@ public final class TaskSpecification {
             return cb.equal(root.join("labels", JoinType.LEFT).get("id"), labelId);
         };
     }
+
+    public static Specification<Task> withLabelIds(Collection<Long> labelIds, boolean matchAll) {
+        return (root, query, cb) -> {
+            if (labelIds == null || labelIds.isEmpty()) {
+                return cb.conjunction();
+            }
+            Subquery<Long> tagged = query.subquery(Long.class);
+            Root<Task> task = tagged.from(Task.class);
+            Join<Task, Label> label = task.join("labels");
+            tagged.select(task.get("id"))
+                    .where(label.get("id").in(labelIds));
+            if (matchAll) {
+                tagged.groupBy(task.get("id"))
+                        .having(cb.equal(cb.countDistinct(label.get("id")), (long) new HashSet<>(labelIds).size()));
+            }
+            return root.get("id").in(tagged);
+        };
+    }
+
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            Path<Instant> createdAt = root.get("createdAt");
+            return cb.or(
+                    cb.greaterThan(createdAt, cursor.getCreatedAt()),
+                    cb.and(
+                            cb.equal(createdAt, cursor.getCreatedAt()),
+                            cb.greaterThan(root.<Long>get("id"), cursor.getId())
+                    )
+            );
+        };
+    }
 }
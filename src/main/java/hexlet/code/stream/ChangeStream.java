@@ -0,0 +1,154 @@
+package hexlet.code.stream;
+
+import hexlet.code.config.EventStreamProperties;
+import hexlet.code.dto.ChangeNotificationDTO;
+import hexlet.code.event.ChangeType;
+import hexlet.code.event.EntityChangedEvent;
+import hexlet.code.event.LabelChangedEvent;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.event.TaskStatusChangedEvent;
+import hexlet.code.event.TasksInsertedEvent;
+import hexlet.code.event.UserChangedEvent;
+import hexlet.code.exception.TooManySubscribersException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChangeStream {
+
+    private final EventStreamProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new TooManySubscribersException(properties.getMaxSubscribers());
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(properties.getBufferSize()));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> disconnect(subscriber));
+        emitter.onError(e -> close(subscriber));
+        subscriber.drainer = Thread.ofVirtual()
+                .name("change-stream-subscriber")
+                .start(() -> drain(subscriber));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        publish("task", event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksInserted(TasksInsertedEvent event) {
+        event.getIds().forEach(id -> publish("task", ChangeType.CREATED, id));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        publish("task_status", event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLabelChanged(LabelChangedEvent event) {
+        publish("label", event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        publish("user", event);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(this::disconnect);
+    }
+
+    private void publish(String entity, EntityChangedEvent<?> event) {
+        publish(entity, event.getType(), event.getId());
+    }
+
+    private void publish(String entity, ChangeType type, Long id) {
+        ChangeNotificationDTO notification = new ChangeNotificationDTO(entity, type, id);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(notification)) {
+                log.warn("Evicting slow event stream subscriber after {} buffered events",
+                        properties.getBufferSize());
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+        try {
+            subscriber.emitter.send(SseEmitter.event().comment("connected"));
+            while (subscriber.open) {
+                ChangeNotificationDTO notification = subscriber.queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                if (notification == null) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .name(notification.getEntity())
+                            .data(notification));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Event stream subscriber disconnected: {}", e.getMessage());
+        } finally {
+            disconnect(subscriber);
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        if (close(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean close(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return false;
+        }
+        subscriber.open = false;
+        Thread drainer = subscriber.drainer;
+        if (drainer != null && drainer != Thread.currentThread()) {
+            drainer.interrupt();
+        }
+        return true;
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<ChangeNotificationDTO> queue;
+        private volatile boolean open = true;
+        private volatile Thread drainer;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<ChangeNotificationDTO> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
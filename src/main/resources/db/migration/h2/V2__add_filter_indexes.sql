@@ -0,0 +1,5 @@
+create index if not exists idx_tasks_created_at_id on tasks (created_at, id);
+create index if not exists idx_tasks_status_created_at_id on tasks (task_status_id, created_at, id);
+create index if not exists idx_tasks_assignee_created_at_id on tasks (assignee_id, created_at, id);
+create index if not exists idx_tasks_assignee_status on tasks (assignee_id, task_status_id);
+create index if not exists idx_task_label_label_task on task_label (label_id, task_id);
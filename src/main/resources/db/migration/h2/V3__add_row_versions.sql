@@ -0,0 +1,4 @@
+alter table users add column if not exists version bigint not null default 0;
+alter table task_statuses add column if not exists version bigint not null default 0;
+alter table labels add column if not exists version bigint not null default 0;
+alter table tasks add column if not exists version bigint not null default 0;
@@ -0,0 +1,15 @@
+create sequence if not exists task_change_seq;
+
+alter table tasks add column if not exists updated_at timestamp(6) with time zone;
+alter table tasks add column if not exists change_seq bigint
+    default next value for task_change_seq on update next value for task_change_seq;
+update tasks set updated_at = created_at where updated_at is null;
+create index if not exists idx_tasks_change_seq on tasks (change_seq);
+
+create table if not exists task_tombstones (
+    id bigint generated by default as identity primary key,
+    task_id bigint not null,
+    change_seq bigint default next value for task_change_seq not null,
+    deleted_at timestamp(6) with time zone not null
+);
+create index if not exists idx_task_tombstones_change_seq on task_tombstones (change_seq);
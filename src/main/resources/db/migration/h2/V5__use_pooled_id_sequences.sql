@@ -0,0 +1,14 @@
+create sequence if not exists users_seq start with 1 increment by 50;
+alter table users alter column id drop identity;
+
+create sequence if not exists task_statuses_seq start with 1 increment by 50;
+alter table task_statuses alter column id drop identity;
+
+create sequence if not exists labels_seq start with 1 increment by 50;
+alter table labels alter column id drop identity;
+
+create sequence if not exists tasks_seq start with 1 increment by 50;
+alter table tasks alter column id drop identity;
+
+create sequence if not exists task_tombstones_seq start with 1 increment by 50;
+alter table task_tombstones alter column id drop identity;
@@ -0,0 +1,3 @@
+alter table tasks add column if not exists position bigint;
+update tasks set position = cast(index as bigint) * 65536 where index is not null and position is null;
+create index if not exists idx_tasks_status_position_id on tasks (task_status_id, position, id);
@@ -0,0 +1,46 @@
+create table if not exists users (
+    id bigint generated by default as identity primary key,
+    first_name varchar(255),
+    last_name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    created_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone,
+    constraint uk_users_email unique (email)
+);
+
+create table if not exists task_statuses (
+    id bigint generated by default as identity primary key,
+    name varchar(255),
+    slug varchar(255),
+    created_at timestamp(6) with time zone,
+    constraint uk_task_statuses_name unique (name),
+    constraint uk_task_statuses_slug unique (slug)
+);
+
+create table if not exists labels (
+    id bigint generated by default as identity primary key,
+    name varchar(1000),
+    created_at timestamp(6) with time zone,
+    constraint uk_labels_name unique (name)
+);
+
+create table if not exists tasks (
+    id bigint generated by default as identity primary key,
+    title varchar(255),
+    index integer,
+    content text,
+    task_status_id bigint,
+    assignee_id bigint,
+    created_at timestamp(6) with time zone,
+    constraint fk_tasks_task_status foreign key (task_status_id) references task_statuses (id),
+    constraint fk_tasks_assignee foreign key (assignee_id) references users (id)
+);
+
+create table if not exists task_label (
+    task_id bigint not null,
+    label_id bigint not null,
+    primary key (task_id, label_id),
+    constraint fk_task_label_task foreign key (task_id) references tasks (id),
+    constraint fk_task_label_label foreign key (label_id) references labels (id)
+);
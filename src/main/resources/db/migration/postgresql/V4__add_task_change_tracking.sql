@@ -0,0 +1,27 @@
+create sequence if not exists task_change_seq;
+
+alter table tasks add column if not exists updated_at timestamp(6) with time zone;
+alter table tasks add column if not exists change_seq bigint default nextval('task_change_seq');
+update tasks set updated_at = created_at where updated_at is null;
+update tasks set change_seq = nextval('task_change_seq') where change_seq is null;
+alter table tasks alter column change_seq set not null;
+create index if not exists idx_tasks_change_seq on tasks (change_seq);
+
+create or replace function tasks_next_change_seq() returns trigger as $$
+begin
+    new.change_seq := nextval('task_change_seq');
+    return new;
+end;
+$$ language plpgsql;
+
+drop trigger if exists tasks_change_seq on tasks;
+create trigger tasks_change_seq before update on tasks
+    for each row execute function tasks_next_change_seq();
+
+create table if not exists task_tombstones (
+    id bigint generated by default as identity primary key,
+    task_id bigint not null,
+    change_seq bigint default nextval('task_change_seq') not null,
+    deleted_at timestamp(6) with time zone not null
+);
+create index if not exists idx_task_tombstones_change_seq on task_tombstones (change_seq);
@@ -0,0 +1,19 @@
+create sequence if not exists users_seq increment by 50;
+select setval('users_seq', coalesce((select max(id) from users), 0) + 50, false);
+alter table users alter column id drop identity if exists;
+
+create sequence if not exists task_statuses_seq increment by 50;
+select setval('task_statuses_seq', coalesce((select max(id) from task_statuses), 0) + 50, false);
+alter table task_statuses alter column id drop identity if exists;
+
+create sequence if not exists labels_seq increment by 50;
+select setval('labels_seq', coalesce((select max(id) from labels), 0) + 50, false);
+alter table labels alter column id drop identity if exists;
+
+create sequence if not exists tasks_seq increment by 50;
+select setval('tasks_seq', coalesce((select max(id) from tasks), 0) + 50, false);
+alter table tasks alter column id drop identity if exists;
+
+create sequence if not exists task_tombstones_seq increment by 50;
+select setval('task_tombstones_seq', coalesce((select max(id) from task_tombstones), 0) + 50, false);
+alter table task_tombstones alter column id drop identity if exists;
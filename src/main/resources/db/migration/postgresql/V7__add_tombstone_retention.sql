@@ -0,0 +1,6 @@
+create table if not exists task_change_horizon (
+    id integer primary key,
+    purged_change_seq bigint not null
+);
+insert into task_change_horizon (id, purged_change_seq) values (1, 0);
+create index if not exists idx_task_tombstones_deleted_at on task_tombstones (deleted_at);
@@ -0,0 +1,68 @@
+package hexlet.code.benchmark;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.security.KeyPair;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+public class JwtSigningBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURED_ITERATIONS = 2_000;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final String SUBJECT = "benchmark@example.com";
+
+    @ParameterizedTest
+    @EnumSource(value = SignatureAlgorithm.class, names = {"RS256", "PS256", "ES256", "ES384"})
+    void compareSignAndVerifyThroughput(SignatureAlgorithm algorithm) {
+        KeyPair keyPair = Keys.keyPairFor(algorithm);
+        JwtParser parser = Jwts.parserBuilder()
+                .setSigningKey(keyPair.getPublic())
+                .build();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            parser.parseClaimsJws(sign(algorithm, keyPair));
+        }
+
+        String token = null;
+        long signStartedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            token = sign(algorithm, keyPair);
+        }
+        long signElapsed = System.nanoTime() - signStartedAt;
+
+        String subject = null;
+        long verifyStartedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            subject = parser.parseClaimsJws(token).getBody().getSubject();
+        }
+        long verifyElapsed = System.nanoTime() - verifyStartedAt;
+
+        System.out.printf("%-6s sign %10.1f ops/s, verify %10.1f ops/s, token %4d bytes%n",
+                algorithm,
+                MEASURED_ITERATIONS * NANOS_PER_SECOND / signElapsed,
+                MEASURED_ITERATIONS * NANOS_PER_SECOND / verifyElapsed,
+                token.length());
+
+        assertThat(subject).isEqualTo(SUBJECT);
+    }
+
+    private static String sign(SignatureAlgorithm algorithm, KeyPair keyPair) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(SUBJECT)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 60_000))
+                .signWith(keyPair.getPrivate(), algorithm)
+                .compact();
+    }
+}
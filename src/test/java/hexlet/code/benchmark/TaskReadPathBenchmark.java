@@ -0,0 +1,151 @@
+package hexlet.code.benchmark;
+
+import com.sun.management.ThreadMXBean;
+import hexlet.code.AppApplication;
+import hexlet.code.config.TaskProperties;
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.pagination.TaskPage;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(classes = AppApplication.class)
+public class TaskReadPathBenchmark {
+
+    private static final int TASK_COUNT = 5_000;
+    private static final int PAGE_SIZE = 500;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 100;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskProperties taskProperties;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        taskStatusRepository.deleteAll();
+        userRepository.deleteAll();
+        labelRepository.deleteAll();
+
+        TaskStatus status = new TaskStatus();
+        status.setName("Benchmark");
+        status.setSlug("benchmark");
+        taskStatusRepository.save(status);
+
+        User user = new User();
+        user.setEmail("benchmark@example.com");
+        user.setPassword("password");
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        userRepository.save(user);
+
+        Label bug = new Label();
+        bug.setName("bug");
+        labelRepository.save(bug);
+
+        Label feature = new Label();
+        feature.setName("feature");
+        labelRepository.save(feature);
+
+        List<Task> tasks = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark task " + i);
+            task.setContent("Benchmark content " + i);
+            task.setIndex(i);
+            task.setTaskStatus(status);
+            task.setAssignee(user);
+            task.setLabels(Set.of(bug, feature));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    void compareEntityAndProjectionReadModels() {
+        int entityRows = measure(TaskProperties.ReadModel.ENTITY);
+        int projectionRows = measure(TaskProperties.ReadModel.PROJECTION);
+
+        assertThat(projectionRows).isEqualTo(entityRows).isEqualTo(PAGE_SIZE);
+    }
+
+    private int measure(TaskProperties.ReadModel readModel) {
+        TaskProperties.ReadModel previous = taskProperties.getReadModel();
+        taskProperties.setReadModel(readModel);
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                transaction.execute(status -> readPage());
+            }
+
+            ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().threadId();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long startedAt = System.nanoTime();
+
+            TaskPage page = null;
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                page = transaction.execute(status -> readPage());
+            }
+
+            long elapsed = System.nanoTime() - startedAt;
+            long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            System.out.printf("%-10s latency %8.3f ms/op, allocated %8d KB/op%n",
+                    readModel,
+                    elapsed / NANOS_PER_MILLI / MEASURED_ITERATIONS,
+                    allocated / 1024 / MEASURED_ITERATIONS);
+
+            return page.getContent().size();
+        } finally {
+            taskProperties.setReadModel(previous);
+        }
+    }
+
+    private TaskPage readPage() {
+        return taskService.getPage(new TaskParamsDTO(), null, 0, PAGE_SIZE);
+    }
+}
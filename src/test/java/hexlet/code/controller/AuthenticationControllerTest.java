@@ -1,20 +1,41 @@
 package hexlet.code.controller;
 
 import hexlet.code.AppApplication;
+import hexlet.code.config.jwt.JwtUtils;
+import hexlet.code.config.jwt.VerifiedToken;
+import hexlet.code.login.LoginAdmission;
 import hexlet.code.model.User;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.UserRepository;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.hamcrest.Matchers.not;
@@ -23,8 +44,20 @@ import static org.hamcrest.Matchers.equalTo;
 @ActiveProfiles("test")
 @SpringBootTest(classes = AppApplication.class)
 @AutoConfigureMockMvc
+@TestPropertySource(properties = {"login.hashing-threads=1", "login.queue-capacity=1"})
 class AuthenticationControllerTest {
 
+    private static final String LEGACY_KEY_ID = "legacy";
+    private static final KeyPair LEGACY_KEYS = Keys.keyPairFor(SignatureAlgorithm.RS256);
+
+    @DynamicPropertySource
+    static void legacyVerificationKey(DynamicPropertyRegistry registry) {
+        registry.add("jwt.verification-keys[0].id", () -> LEGACY_KEY_ID);
+        registry.add("jwt.verification-keys[0].algorithm", () -> "RS256");
+        registry.add("jwt.verification-keys[0].public-key",
+                () -> Base64.getEncoder().encodeToString(LEGACY_KEYS.getPublic().getEncoded()));
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -37,6 +70,12 @@ class AuthenticationControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private LoginAdmission loginAdmission;
+
     @BeforeEach
     void setUp() {
         taskRepository.deleteAll();
@@ -59,6 +98,39 @@ class AuthenticationControllerTest {
                 .andExpect(content().string(not(equalTo(""))));
     }
 
+    @Test
+    void testLoginIsRejectedWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Thread.ofVirtual().start(() -> loginAdmission.submit(() -> {
+                started.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+            started.await();
+            Thread.ofVirtual().start(() -> loginAdmission.submit(() -> "queued"));
+            while (loginAdmission.getQueueDepth() < 1) {
+                Thread.sleep(5);
+            }
+
+            mockMvc.perform(post("/api/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"username\":\"admin@example.com\",\"password\":\"password\"}"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            release.countDown();
+            while (loginAdmission.getQueueDepth() > 0) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
     @Test
     void testFailedLogin() throws Exception {
         String credentials = "{\"username\":\"admin@example.com\",\"password\":\"wrong\"}";
@@ -67,4 +139,47 @@ class AuthenticationControllerTest {
                 .content(credentials))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void testVerifiedTokenIsCached() {
+        String token = jwtUtils.generateToken("admin@example.com");
+        Optional<VerifiedToken> verified = jwtUtils.verify(token);
+
+        assertThat(verified).hasValueSatisfying(value -> assertThat(value.username()).isEqualTo("admin@example.com"));
+        assertThat(jwtUtils.verify(token)).containsSame(verified.get());
+
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1] + "." + jwtUtils.generateToken("other@example.com").split("\\.")[2];
+        assertThat(jwtUtils.verify(forged)).isEmpty();
+    }
+
+    @Test
+    void testTokensCarryKeyIdAndUnknownKeysAreRejected() {
+        String token = jwtUtils.generateToken("admin@example.com");
+        String header = new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]), StandardCharsets.UTF_8);
+        assertThat(header).contains("\"kid\"");
+
+        String foreign = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "retired")
+                .setSubject("admin@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.keyPairFor(SignatureAlgorithm.ES256).getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+        assertThat(jwtUtils.verify(foreign)).isEmpty();
+    }
+
+    @Test
+    void testTokensSignedWithAnotherAlgorithmAreRejected() {
+        assertThat(jwtUtils.verify(signWithLegacyKey(SignatureAlgorithm.RS256))).isPresent();
+        assertThat(jwtUtils.verify(signWithLegacyKey(SignatureAlgorithm.RS512))).isEmpty();
+    }
+
+    private static String signWithLegacyKey(SignatureAlgorithm signatureAlgorithm) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, LEGACY_KEY_ID)
+                .setSubject("admin@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(LEGACY_KEYS.getPrivate(), signatureAlgorithm)
+                .compact();
+    }
 }
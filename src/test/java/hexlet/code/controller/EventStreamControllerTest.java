@@ -0,0 +1,107 @@
+package hexlet.code.controller;
+
+import hexlet.code.AppApplication;
+import hexlet.code.model.Label;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest(classes = AppApplication.class)
+@AutoConfigureMockMvc
+public class EventStreamControllerTest {
+
+    private static final String AUTH = "Authorization";
+    private static final String BEARER = "Bearer ";
+    private static final long WAIT_MILLIS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskRepository.deleteAll();
+        labelRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setEmail("admin@example.com");
+        user.setPassword(passwordEncoder.encode("password"));
+        user.setFirstName("Admin");
+        user.setLastName("User");
+        userRepository.save(user);
+
+        String credentials = "{\"username\":\"admin@example.com\",\"password\":\"password\"}";
+        token = mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(credentials))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    @Test
+    void testStreamReceivesCommittedChanges() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/events")
+                .header(AUTH, BEARER + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Label label = new Label();
+        label.setName("Streamed Label");
+        labelRepository.save(label);
+
+        String body = awaitContent(result.getResponse(), "event:label");
+        assertThat(body).contains("\"id\":" + label.getId());
+        assertThat(body).contains("\"type\":\"CREATED\"");
+    }
+
+    @Test
+    void testStreamRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isForbidden());
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
@@ -116,6 +117,30 @@ public class LabelControllerTest {
         assertThat(labelNamesFromResponse).containsExactlyElementsOf(labelNamesFromDb);
     }
 
+    @Test
+    void testIndexNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/labels")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/labels")
+                .header(AUTH, BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        Label label = new Label();
+        label.setName(TEST_LABEL);
+        labelRepository.save(label);
+
+        mockMvc.perform(get("/api/labels")
+                .header(AUTH, BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void testShow() throws Exception {
         Label label = new Label();
@@ -0,0 +1,7 @@
+package hexlet.code.controller;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "tasks.read-model=projection")
+public class TaskControllerProjectionTest extends TaskControllerTest {
+}
@@ -2,36 +2,57 @@ package hexlet.code.controller;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import hexlet.code.AppApplication;
 import hexlet.code.dto.TaskDTO;
 import hexlet.code.model.Task;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
 import hexlet.code.model.Label;
+import hexlet.code.ordering.TaskRebalancer;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.repository.LabelRepository;
+import hexlet.code.search.TaskSearchIndex;
+import hexlet.code.service.TaskTombstoneService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
 
 @ActiveProfiles("test")
 @SpringBootTest(classes = AppApplication.class)
@@ -47,6 +68,9 @@ public class TaskControllerTest {
     private static final String API_TASKS_ID = "/api/tasks/{id}";
     private static final String TASK_1 = "Task 1";
     private static final String TASK_2 = "Task 2";
+    private static final String TASK_3 = "Task 3";
+    private static final String TOTAL_COUNT = "X-Total-Count";
+    private static final String NEXT_CURSOR = "X-Next-Cursor";
 
     @Autowired
     private MockMvc mockMvc;
@@ -69,6 +93,24 @@ public class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRebalancer taskRebalancer;
+
+    @Autowired
+    private TaskTombstoneService taskTombstoneService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private String token;
     private User testUser;
     private TaskStatus testStatus;
@@ -85,6 +127,23 @@ public class TaskControllerTest {
         return result.getResponse().getContentAsString();
     }
 
+    private Task saveTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setContent(TEST_CONTENT);
+        task.setTaskStatus(testStatus);
+        task.setAssignee(testUser);
+        return taskRepository.save(task);
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         taskRepository.deleteAll();
@@ -196,6 +255,123 @@ public class TaskControllerTest {
         assertThat(updatedTask.getTitle()).isEqualTo("Updated Task");
     }
 
+    @Test
+    void testCreateResolvesReferencesInConstantQueries() throws Exception {
+        StringBuilder labelIds = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            Label label = new Label();
+            label.setName("Batch label " + i);
+            labelRepository.save(label);
+            labelIds.append(i == 0 ? "" : ",").append(label.getId());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/tasks")
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Labelled\",\"status\":\"test_status\",\"assignee_id\":" + testUser.getId()
+                        + ",\"taskLabelIds\":[" + labelIds + "]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.taskLabelIds").value(hasSize(20)));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+
+    @Test
+    void testCreateReportsAllMissingReferences() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Broken\",\"status\":\"test_status\",\"assignee_id\":" + (testUser.getId() + 1000)
+                        + ",\"taskLabelIds\":[" + (testLabel.getId() + 1000) + "]}"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("User with id " + (testUser.getId() + 1000) + " not found; "
+                        + "Label with id " + (testLabel.getId() + 1000) + " not found"));
+    }
+
+    @Test
+    void testUpdateWithIfMatch() throws Exception {
+        Task task = saveTask(TASK_1);
+
+        String etag = mockMvc.perform(get(API_TASKS_ID, task.getId())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put(API_TASKS_ID, task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"First edit\"}")
+                .header(HttpHeaders.IF_MATCH, etag)
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put(API_TASKS_ID, task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Lost edit\"}")
+                .header(HttpHeaders.IF_MATCH, etag)
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isPreconditionFailed());
+
+        String currentEtag = mockMvc.perform(get(API_TASKS_ID, task.getId())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put(API_TASKS_ID, task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Weak edit\"}")
+                .header(HttpHeaders.IF_MATCH, "W/" + currentEtag)
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete(API_TASKS_ID, task.getId())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getTitle)
+                .isEqualTo("First edit");
+    }
+
+    @Test
+    void testPatch() throws Exception {
+        Task task = saveTask(TASK_1);
+        task.getLabels().add(testLabel);
+        taskRepository.save(task);
+        Label anotherLabel = new Label();
+        anotherLabel.setName("Another Label");
+        labelRepository.save(anotherLabel);
+
+        mockMvc.perform(patch(API_TASKS_ID, task.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"content\":null,\"assignee_id\":null,\"taskLabelIds\":[" + anotherLabel.getId() + "]}")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(TASK_1))
+                .andExpect(jsonPath("$.content").value(nullValue()))
+                .andExpect(jsonPath("$.assignee_id").value(nullValue()))
+                .andExpect(jsonPath("$.taskLabelIds[0]").value(anotherLabel.getId()));
+
+        mockMvc.perform(get(API_TASKS_ID, task.getId())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(TASK_1))
+                .andExpect(jsonPath("$.taskLabelIds").value(hasSize(1)));
+
+        mockMvc.perform(patch(API_TASKS_ID, task.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"title\":null}")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testDestroy() throws Exception {
         Task task = new Task();
@@ -233,7 +409,7 @@ public class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath(TITLE).value("Create new feature"))
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").value(org.hamcrest.Matchers.hasSize(1)));
+                .andExpect(jsonPath("$").value(hasSize(1)));
     }
 
     @Test
@@ -264,7 +440,7 @@ public class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath(TITLE).value(TASK_1))
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").value(org.hamcrest.Matchers.hasSize(1)));
+                .andExpect(jsonPath("$").value(hasSize(1)));
     }
 
     @Test
@@ -293,7 +469,7 @@ public class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath(TITLE).value(TASK_1))
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").value(org.hamcrest.Matchers.hasSize(1)));
+                .andExpect(jsonPath("$").value(hasSize(1)));
     }
 
     @Test
@@ -323,6 +499,641 @@ public class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath(TITLE).value(TASK_1))
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$").value(org.hamcrest.Matchers.hasSize(1)));
+                .andExpect(jsonPath("$").value(hasSize(1)));
+    }
+
+    @Test
+    void testIndexWithMultipleLabels() throws Exception {
+        Label anotherLabel = new Label();
+        anotherLabel.setName("Another Label");
+        labelRepository.save(anotherLabel);
+
+        Task task1 = saveTask(TASK_1);
+        task1.getLabels().add(testLabel);
+        task1.getLabels().add(anotherLabel);
+        taskRepository.save(task1);
+
+        Task task2 = saveTask(TASK_2);
+        task2.getLabels().add(anotherLabel);
+        taskRepository.save(task2);
+
+        saveTask(TASK_3);
+
+        String labelIds = testLabel.getId() + "," + anotherLabel.getId();
+
+        mockMvc.perform(get("/api/tasks?labelId=" + labelIds)
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TOTAL_COUNT, "2"))
+                .andExpect(jsonPath("$").value(hasSize(2)));
+
+        mockMvc.perform(get("/api/tasks?labelMatch=all&labelId=" + labelIds)
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TOTAL_COUNT, "1"))
+                .andExpect(jsonPath(TITLE).value(TASK_1));
+    }
+
+    @Test
+    void testCounts() throws Exception {
+        Task task1 = saveTask(TASK_1);
+        task1.getLabels().add(testLabel);
+        taskRepository.save(task1);
+        saveTask(TASK_2);
+
+        mockMvc.perform(get("/api/tasks/counts")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byStatus." + testStatus.getSlug()).value(2))
+                .andExpect(jsonPath("$.byAssignee." + testUser.getId()).value(2))
+                .andExpect(jsonPath("$.byLabel." + testLabel.getId()).value(1));
+
+        saveTask(TASK_3);
+
+        mockMvc.perform(get("/api/tasks/counts")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus." + testStatus.getSlug()).value(3));
+    }
+
+    @Test
+    void testBoard() throws Exception {
+        Task task3 = saveTask(TASK_3);
+        task3.setIndex(1);
+        taskRepository.save(task3);
+        Task task1 = saveTask(TASK_1);
+        task1.setIndex(2);
+        taskRepository.save(task1);
+        saveTask(TASK_2);
+
+        MvcResult board = mockMvc.perform(get("/api/tasks/board?perColumn=2")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(testStatus.getSlug()))
+                .andExpect(jsonPath("$[0].total").value(3))
+                .andExpect(jsonPath("$[0].tasks").value(hasSize(2)))
+                .andExpect(jsonPath("$[0].tasks[0].title").value(TASK_3))
+                .andExpect(jsonPath("$[0].tasks[1].title").value(TASK_1))
+                .andReturn();
+
+        String cursor = JsonPath.read(board.getResponse().getContentAsString(),
+                "$[0].nextCursor");
+
+        mockMvc.perform(get("/api/tasks/board/{status}", testStatus.getSlug())
+                .param("cursor", cursor)
+                .param("limit", "2")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks").value(hasSize(1)))
+                .andExpect(jsonPath("$.tasks[0].title").value(TASK_2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testMoveTask() throws Exception {
+        Task task1 = saveTask(TASK_1);
+        Task task2 = saveTask(TASK_2);
+        Task task3 = saveTask(TASK_3);
+
+        mockMvc.perform(post("/api/tasks/{id}/move", task3.getId())
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"afterId\":" + task1.getId() + ",\"beforeId\":" + task2.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(TASK_3));
+
+        mockMvc.perform(get("/api/tasks/board/{status}", testStatus.getSlug())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title").value(TASK_1))
+                .andExpect(jsonPath("$.tasks[1].title").value(TASK_3))
+                .andExpect(jsonPath("$.tasks[2].title").value(TASK_2));
+
+        mockMvc.perform(post("/api/tasks/{id}/move", task2.getId())
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"position\":0}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/board/{status}", testStatus.getSlug())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title").value(TASK_2))
+                .andExpect(jsonPath("$.tasks[1].title").value(TASK_1))
+                .andExpect(jsonPath("$.tasks[2].title").value(TASK_3));
+
+        mockMvc.perform(post("/api/tasks/{id}/move", task1.getId())
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"afterId\":" + task2.getId() + ",\"beforeId\":" + task1.getId() + "}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/tasks/{id}/move", task2.getId())
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"position\":" + Integer.MAX_VALUE + "}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/board/{status}", testStatus.getSlug())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title").value(TASK_1))
+                .andExpect(jsonPath("$.tasks[1].title").value(TASK_3))
+                .andExpect(jsonPath("$.tasks[2].title").value(TASK_2));
+
+        mockMvc.perform(put(API_TASKS_ID, task2.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"index\":0}")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/board/{status}", testStatus.getSlug())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title").value(TASK_2))
+                .andExpect(jsonPath("$.tasks[1].title").value(TASK_1))
+                .andExpect(jsonPath("$.tasks[2].title").value(TASK_3));
+    }
+
+    @Test
+    void testMoveTaskWithoutStatus() throws Exception {
+        Task task = saveTask(TASK_1);
+        task.setTaskStatus(null);
+        taskRepository.save(task);
+
+        mockMvc.perform(post("/api/tasks/{id}/move", task.getId())
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"position\":0}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testMoveAcrossColumnsDuringSourceRebalance() throws Exception {
+        Task task = saveTask(TASK_1);
+        saveTask(TASK_2);
+        TaskStatus target = new TaskStatus();
+        target.setName("Target Status");
+        target.setSlug("target_status");
+        taskStatusRepository.save(target);
+
+        CountDownLatch rebalanced = new CountDownLatch(1);
+        Thread rebalance = Thread.ofVirtual().start(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    taskRebalancer.rebalance(testStatus.getId());
+                    rebalanced.countDown();
+                    pause(200);
+                }));
+        rebalanced.await();
+
+        mockMvc.perform(post("/api/tasks/{id}/move", task.getId())
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"" + target.getSlug() + "\",\"position\":0}"))
+                .andExpect(status().isOk());
+        rebalance.join();
+
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getPosition)
+                .isEqualTo(Task.POSITION_GAP);
+        mockMvc.perform(get("/api/tasks/board/{status}", target.getSlug())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].title").value(TASK_1));
+        mockMvc.perform(get("/api/tasks/board/{status}", testStatus.getSlug())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].title").value(TASK_2));
+    }
+
+    @Test
+    void testIndexWithFields() throws Exception {
+        saveTask(TASK_1);
+
+        mockMvc.perform(get("/api/tasks?fields=id,title,status")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TOTAL_COUNT, "1"))
+                .andExpect(jsonPath(TITLE).value(TASK_1))
+                .andExpect(jsonPath("$[0].status").value(testStatus.getSlug()))
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].content").doesNotHaveJsonPath())
+                .andExpect(jsonPath("$[0].taskLabelIds").doesNotHaveJsonPath());
+
+        mockMvc.perform(get("/api/tasks?fields=id,password")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testIndexNotModified() throws Exception {
+        saveTask(TASK_1);
+
+        String etag = mockMvc.perform(get("/api/tasks")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tasks")
+                .header(AUTH, BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        saveTask(TASK_2);
+
+        mockMvc.perform(get("/api/tasks")
+                .header(AUTH, BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(hasSize(2)));
+    }
+
+    @Test
+    void testShowNotModified() throws Exception {
+        Task task = saveTask(TASK_1);
+
+        String etag = mockMvc.perform(get(API_TASKS_ID, task.getId())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(API_TASKS_ID, task.getId())
+                .header(AUTH, BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        task.setTitle(TASK_2);
+        taskRepository.save(task);
+
+        mockMvc.perform(get(API_TASKS_ID, task.getId())
+                .header(AUTH, BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(TASK_2));
+    }
+
+    @Test
+    void testChanges() throws Exception {
+        Task task1 = saveTask(TASK_1);
+        Task task2 = saveTask(TASK_2);
+
+        MvcResult initial = mockMvc.perform(get("/api/tasks/changes")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(hasSize(2)))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn();
+        String since = JsonPath.read(initial.getResponse().getContentAsString(), "$.next");
+
+        task1.setTitle(TASK_3);
+        taskRepository.save(task1);
+        mockMvc.perform(delete(API_TASKS_ID, task2.getId())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks/changes")
+                .param("since", since)
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(hasSize(1)))
+                .andExpect(jsonPath("$.updated[0].title").value(TASK_3))
+                .andExpect(jsonPath("$.deleted[0]").value(task2.getId()));
+    }
+
+    @Test
+    void testChangesSinceExpiredTokenAreGone() throws Exception {
+        Task task = saveTask(TASK_1);
+
+        MvcResult initial = mockMvc.perform(get("/api/tasks/changes")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        String since = JsonPath.read(initial.getResponse().getContentAsString(), "$.next");
+
+        mockMvc.perform(delete(API_TASKS_ID, task.getId())
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isNoContent());
+        jdbcTemplate.update("update task_tombstones set deleted_at = ? where task_id = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(31))), task.getId());
+
+        taskTombstoneService.purgeExpired();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from task_tombstones where task_id = ?",
+                Long.class, task.getId())).isZero();
+
+        mockMvc.perform(get("/api/tasks/changes")
+                .param("since", since)
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isGone());
+
+        mockMvc.perform(get("/api/tasks/changes")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(hasSize(0)));
+    }
+
+    @Test
+    void testIndexWithCursorPagination() throws Exception {
+        saveTask(TASK_1);
+        saveTask(TASK_2);
+        saveTask(TASK_3);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/tasks?limit=2")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TOTAL_COUNT, "3"))
+                .andExpect(jsonPath("$").value(hasSize(2)))
+                .andExpect(jsonPath(TITLE).value(TASK_1))
+                .andReturn();
+
+        String cursor = firstPage.getResponse().getHeader(NEXT_CURSOR);
+        assertThat(cursor).isNotNull();
+
+        mockMvc.perform(get("/api/tasks")
+                .param("cursor", cursor)
+                .param("limit", "2")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TOTAL_COUNT, "3"))
+                .andExpect(header().doesNotExist(NEXT_CURSOR))
+                .andExpect(jsonPath("$").value(hasSize(1)))
+                .andExpect(jsonPath(TITLE).value(TASK_3));
+    }
+
+    @Test
+    void testIndexWithStartEndPagination() throws Exception {
+        saveTask(TASK_1);
+        saveTask(TASK_2);
+        saveTask(TASK_3);
+
+        mockMvc.perform(get("/api/tasks?_start=1&_end=2")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TOTAL_COUNT, "3"))
+                .andExpect(header().exists(NEXT_CURSOR))
+                .andExpect(jsonPath("$").value(hasSize(1)))
+                .andExpect(jsonPath(TITLE).value(TASK_2));
+    }
+
+    @Test
+    void testIndexWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks?cursor=not-a-cursor")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testIndexUsesConstantNumberOfStatements() throws Exception {
+        Label anotherLabel = new Label();
+        anotherLabel.setName("Another Label");
+        labelRepository.save(anotherLabel);
+
+        for (int i = 0; i < 10; i++) {
+            User assignee = new User();
+            assignee.setEmail("assignee" + i + "@example.com");
+            assignee.setPassword(passwordEncoder.encode(PWD));
+            assignee.setFirstName("Assignee");
+            assignee.setLastName("User");
+            userRepository.save(assignee);
+
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setContent(TEST_CONTENT);
+            task.setTaskStatus(testStatus);
+            task.setAssignee(assignee);
+            task.getLabels().add(testLabel);
+            task.getLabels().add(anotherLabel);
+            taskRepository.save(task);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/tasks")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(hasSize(10)))
+                .andExpect(jsonPath("$[9].taskLabelIds").value(hasSize(2)));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void testSearchRanksTitleMatchesFirst() throws Exception {
+        Task contentMatch = new Task();
+        contentMatch.setTitle("Update docs");
+        contentMatch.setContent("Describe the login page");
+        contentMatch.setTaskStatus(testStatus);
+        taskRepository.save(contentMatch);
+
+        saveTask("Fix login form");
+        saveTask("Unrelated task");
+        taskSearchIndex.rebuild();
+
+        mockMvc.perform(get("/api/tasks?q=logi")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TOTAL_COUNT, "2"))
+                .andExpect(jsonPath(TITLE).value("Fix login form"))
+                .andExpect(jsonPath("$[1].title").value("Update docs"));
+    }
+
+    @Test
+    void testRolledBackCreateIsNotSearchable() {
+        saveTask("Committed probe");
+        taskSearchIndex.rebuild();
+
+        Long rolledBackId = new TransactionTemplate(transactionManager).execute(status -> {
+            Task task = saveTask("Rolled back probe");
+            taskRepository.flush();
+            status.setRollbackOnly();
+            return task.getId();
+        });
+
+        assertThat(taskSearchIndex.findByTitle("probe")).hasValueSatisfying(ids -> assertThat(ids)
+                .hasSize(1)
+                .doesNotContain(rolledBackId));
+    }
+
+    @Test
+    void testBulkCreate() throws Exception {
+        String body = "[{\"title\":\"Bulk 1\",\"status\":\"test_status\",\"assignee_id\":" + testUser.getId()
+                + ",\"taskLabelIds\":[" + testLabel.getId() + "]},"
+                + "{\"title\":\"\",\"status\":\"test_status\"},"
+                + "{\"title\":\"Bulk 3\",\"status\":\"missing\"}]";
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].status").value(400))
+                .andExpect(jsonPath("$[2].status").value(404))
+                .andExpect(jsonPath("$[2].error").value("TaskStatus with slug missing not found"));
+
+        List<Task> tasks = taskRepository.findAll();
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("Bulk 1");
+        Long createdId = tasks.get(0).getId();
+        assertThat(taskRepository.findLabelIds(List.of(createdId)).get(createdId))
+                .containsExactly(testLabel.getId());
+    }
+
+    @Test
+    void testBulkRetriesItemsOfFailedChunk() throws Exception {
+        String tooLong = "x".repeat(300);
+        String body = "[{\"title\":\"Bulk 1\",\"status\":\"test_status\"},"
+                + "{\"title\":\"" + tooLong + "\",\"status\":\"test_status\"},"
+                + "{\"title\":\"Bulk 3\",\"status\":\"test_status\"}]";
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[1].status").value(409))
+                .andExpect(jsonPath("$[1].error").value("conflicts with existing data"))
+                .andExpect(jsonPath("$[2].status").value(201));
+
+        assertThat(taskRepository.findAll()).extracting(Task::getTitle)
+                .containsExactlyInAnyOrder("Bulk 1", "Bulk 3");
+
+        Task task = taskRepository.findAll().get(0);
+        mockMvc.perform(put("/api/tasks/bulk")
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"id\":" + task.getId() + ",\"title\":\"" + tooLong + "\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(409))
+                .andExpect(jsonPath("$[0].id").value(task.getId()))
+                .andExpect(jsonPath("$[0].error").value("conflicts with existing data"));
+    }
+
+    @Test
+    void testBulkUpdate() throws Exception {
+        Task first = saveTask(TASK_1);
+        Task second = saveTask(TASK_2);
+        String body = "[{\"id\":" + first.getId() + ",\"title\":\"Renamed 1\"},"
+                + "{\"id\":" + second.getId() + ",\"taskLabelIds\":[" + testLabel.getId() + "]},"
+                + "{\"id\":" + (second.getId() + 1000) + ",\"title\":\"Ghost\"},"
+                + "{\"title\":\"No id\"}]";
+
+        mockMvc.perform(put("/api/tasks/bulk")
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[1].status").value(200))
+                .andExpect(jsonPath("$[2].status").value(404))
+                .andExpect(jsonPath("$[3].status").value(400));
+
+        assertThat(taskRepository.findById(first.getId()).orElseThrow().getTitle()).isEqualTo("Renamed 1");
+        assertThat(taskRepository.findLabelIds(List.of(second.getId())).get(second.getId()))
+                .containsExactly(testLabel.getId());
+    }
+
+    @Test
+    void testBulkDelete() throws Exception {
+        Task first = saveTask(TASK_1);
+        Task second = saveTask(TASK_2);
+        Task kept = saveTask(TASK_3);
+
+        mockMvc.perform(delete("/api/tasks/bulk")
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + first.getId() + "," + second.getId() + "," + (kept.getId() + 1000) + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(204))
+                .andExpect(jsonPath("$[1].status").value(204))
+                .andExpect(jsonPath("$[2].status").value(404));
+
+        assertThat(taskRepository.findAll()).extracting(Task::getId).containsExactly(kept.getId());
+    }
+
+    @Test
+    void testBulkCreateBatchesInserts() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 120; i++) {
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"title\":\"Batched ").append(i).append("\",\"status\":\"test_status\",")
+                    .append("\"taskLabelIds\":[").append(testLabel.getId()).append("]}");
+        }
+        body.append("]");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .header(AUTH, BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[119].status").value(201));
+
+        assertThat(taskRepository.count()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(40L);
+    }
+
+    @Test
+    void testExportNdjsonAppliesFilters() throws Exception {
+        TaskStatus otherStatus = new TaskStatus();
+        otherStatus.setName("Other Status");
+        otherStatus.setSlug("other_status");
+        taskStatusRepository.save(otherStatus);
+
+        saveTask(TASK_1);
+        saveTask(TASK_2);
+        Task other = new Task();
+        other.setTitle(TASK_3);
+        other.setTaskStatus(otherStatus);
+        taskRepository.save(other);
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export?status=test_status")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("application/x-ndjson")))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], TaskDTO.class).getTitle()).isEqualTo(TASK_1);
+        assertThat(objectMapper.readValue(lines[1], TaskDTO.class).getStatus()).isEqualTo("test_status");
+    }
+
+    @Test
+    void testExportCsvWithFields() throws Exception {
+        Task task = saveTask(TASK_1);
+        task.getLabels().add(testLabel);
+        taskRepository.save(task);
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export?format=csv&fields=id,title,taskLabelIds")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("id,title,taskLabelIds");
+        assertThat(lines[1]).startsWith(task.getId() + ",")
+                .contains(TASK_1)
+                .endsWith("," + testLabel.getId());
+    }
+
+    @Test
+    void testExportRejectsUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/tasks/export?format=xml")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isBadRequest());
     }
 }
@@ -0,0 +1,162 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.AppApplication;
+import hexlet.code.dto.TaskImportProgressDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest(classes = AppApplication.class)
+@AutoConfigureMockMvc
+public class TaskImportControllerTest {
+
+    private static final String PWD = "password";
+    private static final String EMAIL = "importer@example.com";
+    private static final String AUTH = "Authorization";
+    private static final String BEARER = "Bearer ";
+    private static final String API_IMPORT = "/api/tasks/import";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private User testUser;
+    private Label testLabel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskRepository.deleteAll();
+        taskStatusRepository.deleteAll();
+        userRepository.deleteAll();
+        labelRepository.deleteAll();
+
+        testUser = new User();
+        testUser.setEmail(EMAIL);
+        testUser.setPassword(passwordEncoder.encode(PWD));
+        testUser.setFirstName("Import");
+        testUser.setLastName("User");
+        userRepository.save(testUser);
+
+        TaskStatus status = new TaskStatus();
+        status.setName("Imported");
+        status.setSlug("imported");
+        taskStatusRepository.save(status);
+
+        testLabel = new Label();
+        testLabel.setName("migrated");
+        labelRepository.save(testLabel);
+
+        MvcResult result = mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + EMAIL + "\",\"password\":\"" + PWD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = result.getResponse().getContentAsString();
+    }
+
+    private List<TaskImportProgressDTO> readProgress(MvcResult result) throws Exception {
+        List<TaskImportProgressDTO> progress = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            progress.add(objectMapper.readValue(line, TaskImportProgressDTO.class));
+        }
+        return progress;
+    }
+
+    @Test
+    void testImportCsv() throws Exception {
+        String csv = "title,index,content,status,assignee,labels\n"
+                + "Imported task,3,\"Body, with comma\",imported,IMPORTER@example.com,migrated\n"
+                + "Unknown status,,,missing,,\n"
+                + ",,,imported,,\n";
+
+        MvcResult result = mockMvc.perform(post(API_IMPORT)
+                .header(AUTH, BEARER + token)
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<TaskImportProgressDTO> progress = readProgress(result);
+        assertThat(progress).filteredOn(line -> TaskImportProgressDTO.REJECTED.equals(line.getType()))
+                .extracting(TaskImportProgressDTO::getRow)
+                .containsExactly(2L, 3L);
+        TaskImportProgressDTO summary = progress.get(progress.size() - 1);
+        assertThat(summary.getType()).isEqualTo(TaskImportProgressDTO.COMPLETED);
+        assertThat(summary.getProcessed()).isEqualTo(3L);
+        assertThat(summary.getImported()).isEqualTo(1L);
+        assertThat(summary.getRejected()).isEqualTo(2L);
+
+        List<Task> tasks = taskRepository.findAll();
+        assertThat(tasks).hasSize(1);
+        Task task = tasks.get(0);
+        assertThat(task.getTitle()).isEqualTo("Imported task");
+        assertThat(task.getIndex()).isEqualTo(3);
+        assertThat(taskRepository.findLabelIds(List.of(task.getId())).get(task.getId()))
+                .containsExactly(testLabel.getId());
+    }
+
+    @Test
+    void testImportNdjson() throws Exception {
+        String ndjson = "{\"title\":\"First\",\"status\":\"imported\",\"assignee\":\"" + EMAIL + "\"}\n"
+                + "{\"title\":\"Broken\",\"status\":\"imported\",\"index\":\"abc\"}\n"
+                + "{\"title\":\"Second\",\"status\":\"imported\",\"labels\":[\"migrated\",\"unknown\"]}\n"
+                + "{\"title\":\"Third\",\"status\":\"imported\",\"labels\":[\"migrated\"]}\n";
+
+        MvcResult result = mockMvc.perform(post(API_IMPORT)
+                .header(AUTH, BEARER + token)
+                .contentType("application/x-ndjson")
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<TaskImportProgressDTO> progress = readProgress(result);
+        TaskImportProgressDTO summary = progress.get(progress.size() - 1);
+        assertThat(summary.getType()).isEqualTo(TaskImportProgressDTO.COMPLETED);
+        assertThat(summary.getImported()).isEqualTo(2L);
+        assertThat(summary.getRejected()).isEqualTo(2L);
+        assertThat(taskRepository.findAll()).extracting(Task::getTitle)
+                .containsExactlyInAnyOrder("First", "Third");
+    }
+}
@@ -3,12 +3,17 @@ package hexlet.code.controller;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.AppApplication;
+import hexlet.code.cache.ReferenceCache;
 import hexlet.code.dto.TaskStatusDTO;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,6 +64,15 @@ public class TaskStatusControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ReferenceCache referenceCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private String token;
 
     private String getToken(String email, String password) throws Exception {
@@ -180,4 +194,64 @@ public class TaskStatusControllerTest {
 
         assertThat(taskStatusRepository.existsById(status.getId())).isFalse();
     }
+
+    @Test
+    void testUpdateInvalidatesReferenceCache() throws Exception {
+        TaskStatus status = new TaskStatus();
+        status.setName("Cached Status");
+        status.setSlug("cached_status");
+        taskStatusRepository.save(status);
+
+        assertThat(referenceCache.findTaskStatusBySlug("cached_status")).isPresent();
+        assertThat(referenceCache.findTaskStatusById(status.getId()))
+                .hasValueSatisfying(cached -> assertThat(cached.getSlug()).isEqualTo("cached_status"));
+
+        mockMvc.perform(put(API_TASK_1STATUSES_ID, status.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"slug\":\"renamed_status\"}")
+                .header(AUTH, BEARER + token))
+                .andExpect(status().isOk());
+
+        assertThat(referenceCache.findTaskStatusBySlug("cached_status")).isEmpty();
+        assertThat(referenceCache.findTaskStatusBySlug("renamed_status"))
+                .hasValueSatisfying(cached -> assertThat(cached.getId()).isEqualTo(status.getId()));
+        assertThat(referenceCache.findTaskStatusById(status.getId()))
+                .hasValueSatisfying(cached -> assertThat(cached.getSlug()).isEqualTo("renamed_status"));
+    }
+
+    @Test
+    void testReferenceCacheRegistersHitAndMissMeters() {
+        TaskStatus status = new TaskStatus();
+        status.setName("Metered Status");
+        status.setSlug("metered_status");
+        taskStatusRepository.save(status);
+
+        assertThat(referenceCache.findTaskStatusId("metered_status")).contains(status.getId());
+        assertThat(referenceCache.findTaskStatusId("metered_status")).contains(status.getId());
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "taskStatusIdsBySlug", "result", "miss")
+                .functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "taskStatusIdsBySlug", "result", "hit")
+                .functionCounter().count()).isPositive();
+        assertThat(meterRegistry.find("cache.size").tag("cache", "labelIds").gauge()).isNotNull();
+    }
+
+    @Test
+    void testFindBySlugUsesNaturalIdCache() {
+        TaskStatus status = new TaskStatus();
+        status.setName("Natural Status");
+        status.setSlug("natural_status");
+        taskStatusRepository.save(status);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(taskStatusRepository.findBySlug("natural_status"))
+                .hasValueSatisfying(found -> assertThat(found.getId()).isEqualTo(status.getId()));
+        assertThat(taskStatusRepository.findBySlug("natural_status")).isPresent();
+
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
 }
@@ -1,17 +1,31 @@
 package hexlet.code.handler;
 
+import hexlet.code.exception.InvalidCursorException;
+import hexlet.code.exception.ChangeTokenExpiredException;
+import hexlet.code.exception.BulkLimitExceededException;
+import hexlet.code.exception.InvalidFieldException;
+import hexlet.code.exception.InvalidMoveException;
+import hexlet.code.exception.InvalidPatchException;
 import hexlet.code.exception.LabelNotFoundException;
+import hexlet.code.exception.LoginQueueFullException;
+import hexlet.code.exception.LoginTimeoutException;
+import hexlet.code.exception.PreconditionFailedException;
+import hexlet.code.exception.ReferencesNotFoundException;
 import hexlet.code.exception.RsaKeyLoadingException;
 import hexlet.code.exception.SentryTestException;
 import hexlet.code.exception.TaskNotFoundException;
 import hexlet.code.exception.TaskStatusDeletionException;
 import hexlet.code.exception.TaskStatusNotFoundException;
+import hexlet.code.exception.TooManySubscribersException;
+import hexlet.code.exception.UnsupportedFormatException;
 import hexlet.code.exception.UserDeletionException;
 import hexlet.code.exception.UserNotFoundException;
 import hexlet.code.exception.LabelDeletionException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -20,6 +34,8 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.core.env.Environment;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -171,4 +187,151 @@ public class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
         assertEquals("Cannot delete label with id 42 because it has associated tasks", response.getBody());
     }
+
+    @Test
+    void testHandleInvalidCursorException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        InvalidCursorException ex = new InvalidCursorException("abc");
+
+        ResponseEntity<String> response = globalExceptionHandler.handleInvalidCursorException(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid pagination cursor abc", response.getBody());
+    }
+
+    @Test
+    void testHandleChangeTokenExpiredException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        ChangeTokenExpiredException ex = new ChangeTokenExpiredException("MTA");
+
+        ResponseEntity<String> response = globalExceptionHandler.handleChangeTokenExpiredException(ex);
+
+        assertEquals(HttpStatus.GONE, response.getStatusCode());
+        assertEquals("Change token MTA is older than the retained tombstones, resync without since",
+                response.getBody());
+    }
+
+    @Test
+    void testHandleInvalidFieldException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        InvalidFieldException ex = new InvalidFieldException("secret");
+
+        ResponseEntity<String> response = globalExceptionHandler.handleInvalidFieldException(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Unknown task field secret", response.getBody());
+    }
+
+    @Test
+    void testHandleTooManySubscribersException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        TooManySubscribersException ex = new TooManySubscribersException(10);
+
+        ResponseEntity<String> response = globalExceptionHandler.handleTooManySubscribersException(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("Event stream subscriber limit of 10 reached", response.getBody());
+    }
+
+    @Test
+    void testHandleBulkLimitExceededException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        BulkLimitExceededException ex = new BulkLimitExceededException(20, 10);
+
+        ResponseEntity<String> response = globalExceptionHandler.handleBulkLimitExceededException(ex);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        assertEquals("Bulk request of 20 items exceeds the limit of 10", response.getBody());
+    }
+
+    @Test
+    void testHandleUnsupportedFormatException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        UnsupportedFormatException ex = new UnsupportedFormatException("xml");
+
+        ResponseEntity<String> response = globalExceptionHandler.handleUnsupportedFormatException(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Unsupported format xml", response.getBody());
+    }
+
+    @Test
+    void testHandleInvalidMoveException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        InvalidMoveException ex = new InvalidMoveException("Task 2 is not in status draft");
+
+        ResponseEntity<String> response = globalExceptionHandler.handleInvalidMoveException(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Task 2 is not in status draft", response.getBody());
+    }
+
+    @Test
+    void testHandlePreconditionFailedException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        PreconditionFailedException ex = new PreconditionFailedException("Task 1 has version 2, not 1");
+
+        ResponseEntity<String> response = globalExceptionHandler.handlePreconditionFailedException(ex);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals("Task 1 has version 2, not 1", response.getBody());
+    }
+
+    @Test
+    void testHandleOptimisticLockingFailureException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        OptimisticLockingFailureException ex = new OptimisticLockingFailureException("Row was updated");
+
+        ResponseEntity<String> response = globalExceptionHandler.handleOptimisticLockingFailureException(ex);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals("The resource was modified by a concurrent request", response.getBody());
+    }
+
+    @Test
+    void testHandleInvalidPatchException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        InvalidPatchException ex = new InvalidPatchException("title cannot be removed");
+
+        ResponseEntity<String> response = globalExceptionHandler.handleInvalidPatchException(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid merge patch: title cannot be removed", response.getBody());
+    }
+
+    @Test
+    void testHandleReferencesNotFoundException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        ReferencesNotFoundException ex = new ReferencesNotFoundException(List.of(
+                "User with id 7 not found", "Label with id 9 not found"));
+
+        ResponseEntity<String> response = globalExceptionHandler.handleReferencesNotFoundException(ex);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("User with id 7 not found; Label with id 9 not found", response.getBody());
+    }
+
+    @Test
+    void testHandleLoginQueueFullException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        LoginQueueFullException ex = new LoginQueueFullException(64, Duration.ofSeconds(2));
+
+        ResponseEntity<String> response = globalExceptionHandler.handleLoginQueueFullException(ex);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Too many concurrent logins, the queue of 64 is full", response.getBody());
+    }
+
+    @Test
+    void testHandleLoginTimeoutException() {
+        GlobalExceptionHandler globalExceptionHandler = createGlobalExceptionHandler();
+        LoginTimeoutException ex = new LoginTimeoutException(Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        ResponseEntity<String> response = globalExceptionHandler.handleLoginTimeoutException(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Login was not processed within 5000 ms", response.getBody());
+    }
 }
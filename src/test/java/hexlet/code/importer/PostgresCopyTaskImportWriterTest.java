@@ -0,0 +1,135 @@
+package hexlet.code.importer;
+
+import hexlet.code.AppApplication;
+import hexlet.code.dto.TaskCreateDTO;
+import hexlet.code.event.TasksInsertedEvent;
+import hexlet.code.model.Label;
+import hexlet.code.model.IdGeneration;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@SpringBootTest(classes = AppApplication.class)
+@RecordApplicationEvents
+public class PostgresCopyTaskImportWriterTest {
+
+    private static final int TASK_COUNT = IdGeneration.ALLOCATION_SIZE + 3;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private PostgresCopyTaskImportWriter writer;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private TaskStatus status;
+    private User assignee;
+    private Label label;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        taskStatusRepository.deleteAll();
+        userRepository.deleteAll();
+        labelRepository.deleteAll();
+
+        status = new TaskStatus();
+        status.setName("Imported");
+        status.setSlug("imported");
+        taskStatusRepository.save(status);
+
+        assignee = new User();
+        assignee.setEmail("copy@example.com");
+        assignee.setPassword("secret");
+        userRepository.save(assignee);
+
+        label = new Label();
+        label.setName("copied");
+        labelRepository.save(label);
+    }
+
+    @Test
+    void testCopyWritesTasksLabelsAndSequenceIds() {
+        assertThat(writer.isAvailable()).isTrue();
+
+        List<ImportedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            TaskCreateDTO task = new TaskCreateDTO();
+            task.setTitle("Task " + i + ", \"quoted\"");
+            task.setIndex(i);
+            task.setContent(i % 2 == 0 ? "line one\nline two" : null);
+            tasks.add(new ImportedTask(i + 1, task, status, i % 2 == 0 ? assignee : null, Set.of(label)));
+        }
+        transactionTemplate.executeWithoutResult(transaction -> writer.write(tasks));
+        writer.finish(tasks.size());
+
+        List<Long> ids = events.stream(TasksInsertedEvent.class)
+                .flatMap(event -> event.getIds().stream())
+                .toList();
+        assertThat(ids).hasSize(TASK_COUNT).doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tasks", Long.class))
+                .isEqualTo(TASK_COUNT);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from task_label where label_id = ?", Long.class,
+                label.getId())).isEqualTo(TASK_COUNT);
+
+        Task first = taskRepository.findById(ids.get(0)).orElseThrow();
+        assertThat(first.getTitle()).isEqualTo("Task 0, \"quoted\"");
+        assertThat(first.getContent()).isEqualTo("line one\nline two");
+        assertThat(first.getPosition()).isEqualTo(Task.positionOf(0));
+        assertThat(taskRepository.findById(ids.get(1)).orElseThrow().getContent()).isNull();
+
+        Task saved = new Task();
+        saved.setTitle("After import");
+        saved.setTaskStatus(status);
+        taskRepository.save(saved);
+        assertThat(ids).doesNotContain(saved.getId());
+    }
+}
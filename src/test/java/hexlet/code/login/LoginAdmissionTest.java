@@ -0,0 +1,81 @@
+package hexlet.code.login;
+
+import hexlet.code.config.LoginProperties;
+import hexlet.code.exception.LoginQueueFullException;
+import hexlet.code.exception.LoginTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAdmissionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testRunsVerificationOnHashingPool() {
+        LoginAdmission admission = new LoginAdmission(new LoginProperties(), meterRegistry);
+        try {
+            assertThat(admission.submit(() -> Thread.currentThread().getName())).startsWith("login-");
+            assertThat(meterRegistry.get("login.verification").timer().count()).isEqualTo(1);
+        } finally {
+            admission.shutdown();
+        }
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() throws Exception {
+        LoginProperties properties = new LoginProperties();
+        properties.setHashingThreads(1);
+        properties.setQueueCapacity(1);
+        LoginAdmission admission = new LoginAdmission(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Thread.ofVirtual().start(() -> admission.submit(() -> block(started, release)));
+            started.await();
+            Thread.ofVirtual().start(() -> admission.submit(() -> "queued"));
+            while (admission.getQueueDepth() < 1) {
+                Thread.sleep(5);
+            }
+
+            assertThatThrownBy(() -> admission.submit(() -> "rejected"))
+                    .isInstanceOf(LoginQueueFullException.class);
+            assertThat(meterRegistry.get("login.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            admission.shutdown();
+        }
+    }
+
+    @Test
+    void testTimesOut() {
+        LoginProperties properties = new LoginProperties();
+        properties.setHashingThreads(1);
+        properties.setTimeout(Duration.ofMillis(50));
+        LoginAdmission admission = new LoginAdmission(properties, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            assertThatThrownBy(() -> admission.submit(() -> block(new CountDownLatch(1), release)))
+                    .isInstanceOf(LoginTimeoutException.class);
+            assertThat(meterRegistry.get("login.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            admission.shutdown();
+        }
+    }
+
+    private static String block(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "released";
+    }
+}